@@ -0,0 +1,22 @@
+package com.finance.manager.cache;
+
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cross-node message telling other instances to drop near-cache entries for a user.
+ *
+ * @param nodeId id of the sending instance, so it can ignore its own messages
+ * @param email  set for {@link Kind#USER} messages
+ * @param months set for {@link Kind#TRANSACTIONS} messages
+ */
+public record CacheInvalidation(String nodeId, Kind kind, UUID userId, String email, Set<YearMonth> months) {
+
+    public enum Kind {
+        TRANSACTIONS, CATEGORIES, USER,
+        /** Account or budget writes, which only invalidate the user's data version. */
+        DATA
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.finance.manager.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries {@link CacheInvalidation} messages between application instances.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+}
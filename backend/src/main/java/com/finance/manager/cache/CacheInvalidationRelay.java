@@ -0,0 +1,116 @@
+package com.finance.manager.cache;
+
+import com.finance.manager.event.AccountsChangedEvent;
+import com.finance.manager.event.BudgetsChangedEvent;
+import com.finance.manager.event.CategoriesChangedEvent;
+import com.finance.manager.event.TransactionsChangedEvent;
+import com.finance.manager.event.UserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Forwards committed changes to the other instances and applies theirs to this instance's
+ * near-caches. Shared-tier entries are already cleared by the instance that made the change,
+ * so remote messages only touch local state. The listeners here are ordered last, after the
+ * caches have cleared the shared tier for the same commit.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationRelay {
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final CacheInvalidationBus bus;
+    private final TransactionCountCache transactionCountCache;
+    private final CategoryCache categoryCache;
+    private final ReportCache reportCache;
+    private final UserLookupCache userLookupCache;
+    private final TokenVersionCache tokenVersionCache;
+    private final DataVersionCache dataVersionCache;
+
+    public CacheInvalidationRelay(CacheInvalidationBus bus,
+                                  TransactionCountCache transactionCountCache,
+                                  CategoryCache categoryCache,
+                                  ReportCache reportCache,
+                                  UserLookupCache userLookupCache,
+                                  TokenVersionCache tokenVersionCache,
+                                  DataVersionCache dataVersionCache) {
+        this.bus = bus;
+        this.transactionCountCache = transactionCountCache;
+        this.categoryCache = categoryCache;
+        this.reportCache = reportCache;
+        this.userLookupCache = userLookupCache;
+        this.tokenVersionCache = tokenVersionCache;
+        this.dataVersionCache = dataVersionCache;
+        bus.subscribe(this::onRemoteInvalidation);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        bus.publish(new CacheInvalidation(nodeId, CacheInvalidation.Kind.TRANSACTIONS,
+                event.getUserId(), null, event.getMonths()));
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        bus.publish(new CacheInvalidation(nodeId, CacheInvalidation.Kind.CATEGORIES,
+                event.getUserId(), null, Set.of()));
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        bus.publish(new CacheInvalidation(nodeId, CacheInvalidation.Kind.USER,
+                event.getUserId(), event.getEmail(), Set.of()));
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountsChanged(AccountsChangedEvent event) {
+        bus.publish(new CacheInvalidation(nodeId, CacheInvalidation.Kind.DATA, event.getUserId(), null, Set.of()));
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBudgetsChanged(BudgetsChangedEvent event) {
+        bus.publish(new CacheInvalidation(nodeId, CacheInvalidation.Kind.DATA, event.getUserId(), null, Set.of()));
+    }
+
+    private void onRemoteInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+        log.debug("Applying {} invalidation for user {} from node {}",
+                invalidation.kind(), invalidation.userId(), invalidation.nodeId());
+
+        UUID userId = invalidation.userId();
+        switch (invalidation.kind()) {
+            case TRANSACTIONS -> {
+                transactionCountCache.evictUser(userId);
+                reportCache.evictLocal(userId, invalidation.months());
+                dataVersionCache.evict(userId);
+            }
+            case CATEGORIES -> {
+                categoryCache.evictUser(userId);
+                reportCache.evictUserLocal(userId);
+                dataVersionCache.evict(userId);
+            }
+            case DATA -> dataVersionCache.evict(userId);
+            case USER -> {
+                if (invalidation.email() != null) {
+                    userLookupCache.evict(invalidation.email());
+                }
+                tokenVersionCache.evict(userId);
+            }
+        }
+    }
+
+}
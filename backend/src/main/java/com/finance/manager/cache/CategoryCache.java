@@ -0,0 +1,111 @@
+package com.finance.manager.cache;
+
+import com.finance.manager.entity.Category;
+import com.finance.manager.entity.TransactionType;
+import com.finance.manager.event.CategoriesChangedEvent;
+import com.finance.manager.repository.CategoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Categories available to each user. System categories are seeded once and never change, so
+ * they are loaded a single time; custom categories are cached per user and dropped after that
+ * user's category writes commit.
+ */
+@Component
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<UUID, Map<UUID, CachedCategory>> userCategories;
+    private volatile Map<UUID, CachedCategory> systemCategories;
+
+    public CategoryCache(
+            CategoryRepository categoryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.cache.categories.max-size}") long maxSize,
+            @Value("${application.cache.categories.ttl}") Duration ttl) {
+        this.categoryRepository = categoryRepository;
+        this.userCategories = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCategories, "categories");
+    }
+
+    /**
+     * System categories followed by the user's own.
+     */
+    public List<CachedCategory> getAvailable(UUID userId) {
+        List<CachedCategory> categories = new ArrayList<>(getSystemCategories().values());
+        categories.addAll(getUserCategories(userId).values());
+        return categories;
+    }
+
+    /**
+     * The category if it is a system category or one of the user's own.
+     */
+    public Optional<CachedCategory> findAvailable(UUID userId, UUID categoryId) {
+        CachedCategory category = getSystemCategories().get(categoryId);
+        if (category == null) {
+            category = getUserCategories(userId).get(categoryId);
+        }
+        return Optional.ofNullable(category);
+    }
+
+    public void evictUser(UUID userId) {
+        userCategories.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        evictUser(event.getUserId());
+    }
+
+    private Map<UUID, CachedCategory> getSystemCategories() {
+        Map<UUID, CachedCategory> categories = systemCategories;
+        if (categories == null) {
+            synchronized (this) {
+                categories = systemCategories;
+                if (categories == null) {
+                    categories = toMap(categoryRepository.findByIsSystemTrue());
+                    systemCategories = categories;
+                }
+            }
+        }
+        return categories;
+    }
+
+    private Map<UUID, CachedCategory> getUserCategories(UUID userId) {
+        return userCategories.get(userId, id -> toMap(categoryRepository.findByUserId(id)));
+    }
+
+    private static Map<UUID, CachedCategory> toMap(List<Category> categories) {
+        Map<UUID, CachedCategory> map = new LinkedHashMap<>();
+        for (Category category : categories) {
+            map.put(category.getId(), new CachedCategory(category.getId(), category.getName(), category.getType(),
+                    category.getIcon(), category.getColor(), category.getIsSystem(), category.getCreatedAt()));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    public record CachedCategory(UUID id, String name, TransactionType type, String icon, String color,
+                                 Boolean isSystem, LocalDateTime createdAt) {
+    }
+
+}
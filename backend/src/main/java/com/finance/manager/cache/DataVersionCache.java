@@ -0,0 +1,68 @@
+package com.finance.manager.cache;
+
+import com.finance.manager.event.AccountsChangedEvent;
+import com.finance.manager.event.BudgetsChangedEvent;
+import com.finance.manager.event.CategoriesChangedEvent;
+import com.finance.manager.event.TransactionsChangedEvent;
+import com.finance.manager.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Near-cache of each user's {@code users.data_version}. Entries are dropped once an account,
+ * category, budget or transaction write commits, so a cached version is never newer than the
+ * committed data; the TTL bounds staleness if a cross-instance invalidation is lost.
+ */
+@Component
+public class DataVersionCache {
+
+    private final Cache<UUID, Optional<Long>> versions;
+    private final UserRepository userRepository;
+
+    public DataVersionCache(
+            UserRepository userRepository,
+            @Value("${application.cache.data-versions.max-size}") long maxSize,
+            @Value("${application.cache.data-versions.ttl}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<Long> get(UUID userId) {
+        return versions.get(userId, userRepository::findDataVersionById);
+    }
+
+    public void evict(UUID userId) {
+        versions.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountsChanged(AccountsChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBudgetsChanged(BudgetsChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.finance.manager.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * In-process stand-in for the Redis tier, with the same per-user grouping, per-entry expiry and
+ * generation semantics. Useful for local runs and tests; it is only shared by the instances
+ * created in one JVM.
+ */
+public class InMemorySharedCacheTier implements SharedCacheTier {
+
+    private final Map<String, Map<String, Entry>> groups = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<String> get(String namespace, UUID userId, String field) {
+        Map<String, Entry> group = groups.get(groupKey(namespace, userId));
+        Entry entry = group != null ? group.get(field) : null;
+        if (entry == null || entry.expiresAt().isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    @Override
+    public void put(String namespace, UUID userId, String field, String value, Duration ttl) {
+        groups.computeIfAbsent(groupKey(namespace, userId), key -> new ConcurrentHashMap<>())
+                .put(field, new Entry(value, Instant.now().plus(ttl)));
+    }
+
+    @Override
+    public void remove(String namespace, UUID userId, String field) {
+        Map<String, Entry> group = groups.get(groupKey(namespace, userId));
+        if (group != null) {
+            group.remove(field);
+        }
+    }
+
+    @Override
+    public void evict(String namespace, UUID userId, Predicate<String> fieldFilter) {
+        generations.computeIfAbsent(groupKey(namespace, userId), key -> new AtomicLong()).incrementAndGet();
+        Map<String, Entry> group = groups.get(groupKey(namespace, userId));
+        if (group != null) {
+            group.keySet().removeIf(fieldFilter);
+        }
+    }
+
+    @Override
+    public long generation(String namespace, UUID userId) {
+        AtomicLong generation = generations.get(groupKey(namespace, userId));
+        return generation != null ? generation.get() : 0;
+    }
+
+    private static String groupKey(String namespace, UUID userId) {
+        return namespace + ":" + userId;
+    }
+
+    private record Entry(String value, Instant expiresAt) {
+    }
+
+}
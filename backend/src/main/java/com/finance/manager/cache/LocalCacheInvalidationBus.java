@@ -0,0 +1,19 @@
+package com.finance.manager.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Single-instance deployments: local caches are already invalidated by application events,
+ * so there is nobody else to tell.
+ */
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.finance.manager.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * No shared tier: every near-cache miss goes to the database.
+ */
+public class NoopSharedCacheTier implements SharedCacheTier {
+
+    @Override
+    public Optional<String> get(String namespace, UUID userId, String field) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(String namespace, UUID userId, String field, String value, Duration ttl) {
+    }
+
+    @Override
+    public void remove(String namespace, UUID userId, String field) {
+    }
+
+    @Override
+    public void evict(String namespace, UUID userId, Predicate<String> fieldFilter) {
+    }
+
+    @Override
+    public long generation(String namespace, UUID userId) {
+        return 0;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.finance.manager.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub transport. Delivery is best effort: a lost message leaves a near-cache entry
+ * stale only until its TTL expires.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final ChannelTopic CHANNEL = new ChannelTopic("finance-manager:cache-invalidation");
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("Could not publish cache invalidation for user {}: {}", invalidation.userId(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), CacheInvalidation.class));
+            } catch (IOException ex) {
+                log.warn("Ignoring malformed cache invalidation message: {}", ex.getMessage());
+            }
+        }, CHANNEL);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.finance.manager.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Shared tier on any Redis-protocol server. Every entry is its own key with its own TTL, so an
+ * entry outlives neither its TTL nor a failed eviction by more than that. A per-group set indexes
+ * the entry fields, so eviction reads one small set instead of scanning the keyspace; it expires
+ * no earlier than the entries it lists.
+ */
+@Slf4j
+public class RedisSharedCacheTier implements SharedCacheTier {
+
+    private static final String KEY_PREFIX = "finance-manager:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisSharedCacheTier(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<String> get(String namespace, UUID userId, String field) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(entryKey(namespace, userId, field)));
+        } catch (RuntimeException ex) {
+            log.debug("Shared cache read failed: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String namespace, UUID userId, String field, String value, Duration ttl) {
+        String indexKey = indexKey(namespace, userId);
+        try {
+            redisTemplate.opsForValue().set(entryKey(namespace, userId, field), value, ttl);
+            redisTemplate.opsForSet().add(indexKey, field);
+            redisTemplate.expire(indexKey, ttl);
+        } catch (RuntimeException ex) {
+            log.debug("Shared cache write failed: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void remove(String namespace, UUID userId, String field) {
+        try {
+            redisTemplate.delete(entryKey(namespace, userId, field));
+        } catch (RuntimeException ex) {
+            log.warn("Shared cache removal failed for user {}: {}", userId, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String namespace, UUID userId, Predicate<String> fieldFilter) {
+        String indexKey = indexKey(namespace, userId);
+        try {
+            redisTemplate.opsForValue().increment(generationKey(namespace, userId));
+            Set<String> fields = redisTemplate.opsForSet().members(indexKey);
+            if (fields == null || fields.isEmpty()) {
+                return;
+            }
+            List<String> matching = fields.stream().filter(fieldFilter).toList();
+            if (!matching.isEmpty()) {
+                redisTemplate.delete(matching.stream().map(field -> entryKey(namespace, userId, field)).toList());
+                redisTemplate.opsForSet().remove(indexKey, matching.toArray());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Shared cache eviction failed for user {}: {}", userId, ex.getMessage());
+        }
+    }
+
+    @Override
+    public long generation(String namespace, UUID userId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(namespace, userId));
+            return generation != null ? Long.parseLong(generation) : 0;
+        } catch (RuntimeException ex) {
+            log.debug("Shared cache generation read failed: {}", ex.getMessage());
+            return -1;
+        }
+    }
+
+    private static String groupKey(String namespace, UUID userId) {
+        return KEY_PREFIX + namespace + ":" + userId;
+    }
+
+    private static String entryKey(String namespace, UUID userId, String field) {
+        return groupKey(namespace, userId) + ":entry:" + field;
+    }
+
+    private static String indexKey(String namespace, UUID userId) {
+        return groupKey(namespace, userId) + ":index";
+    }
+
+    private static String generationKey(String namespace, UUID userId) {
+        return groupKey(namespace, userId) + ":generation";
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.finance.manager.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.manager.event.CategoriesChangedEvent;
+import com.finance.manager.event.TransactionsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Report results keyed by user, report, parameters and the months they cover. A transaction
+ * write only drops the user's entries whose month range includes a changed month, so reports
+ * for untouched periods stay cached. Results live in a per-instance near-cache backed by the
+ * {@link SharedCacheTier}; the instance handling a write clears the shared tier, and other
+ * instances clear their near-cache when the invalidation reaches them.
+ */
+@Slf4j
+@Component
+public class ReportCache {
+
+    private static final String NAMESPACE = "reports";
+
+    private final Cache<ReportKey, Object> reports;
+    private final UserGenerations generations;
+    private final SharedCacheTier sharedCacheTier;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public ReportCache(
+            MeterRegistry meterRegistry,
+            SharedCacheTier sharedCacheTier,
+            ObjectMapper objectMapper,
+            @Value("${application.cache.reports.max-size}") long maxSize,
+            @Value("${application.cache.reports.ttl}") Duration ttl) {
+        this.sharedCacheTier = sharedCacheTier;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.reports = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.generations = new UserGenerations(maxSize, ttl);
+        CaffeineCacheMetrics.monitor(meterRegistry, reports, NAMESPACE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ReportKey key, TypeReference<T> type, Supplier<T> loader) {
+        return (T) generations.load(reports, key, key.userId(), () -> loadShared(key, type, loader));
+    }
+
+    public void evict(UUID userId, Set<YearMonth> months) {
+        evictLocal(userId, months);
+        sharedCacheTier.evict(NAMESPACE, userId, field -> ReportKey.fieldCoversAny(field, months));
+    }
+
+    public void evictUser(UUID userId) {
+        evictUserLocal(userId);
+        sharedCacheTier.evict(NAMESPACE, userId, field -> true);
+    }
+
+    public void evictLocal(UUID userId, Set<YearMonth> months) {
+        generations.advance(userId);
+        reports.asMap().keySet().removeIf(key -> key.userId().equals(userId) && key.coversAny(months));
+    }
+
+    public void evictUserLocal(UUID userId) {
+        generations.advance(userId);
+        reports.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    /**
+     * Runs before {@link CacheInvalidationRelay} tells other instances, so their reloads cannot
+     * find the old report in the shared tier.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        evict(event.getUserId(), event.getMonths());
+    }
+
+    /**
+     * Category names, icons and colours appear in reports, so any category write drops the user's reports.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        evictUser(event.getUserId());
+    }
+
+    private <T> T loadShared(ReportKey key, TypeReference<T> type, Supplier<T> loader) {
+        String field = key.field();
+        T cached = sharedCacheTier.get(NAMESPACE, key.userId(), field)
+                .map(json -> read(json, type))
+                .orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = sharedCacheTier.generation(NAMESPACE, key.userId());
+        T value = loader.get();
+        if (generation < 0) {
+            return value;
+        }
+        try {
+            sharedCacheTier.put(NAMESPACE, key.userId(), field, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize {} report for the shared cache: {}", key.report(), ex.getMessage());
+            return value;
+        }
+        // An eviction on any instance while this load ran means the value may predate the write
+        if (sharedCacheTier.generation(NAMESPACE, key.userId()) != generation) {
+            sharedCacheTier.remove(NAMESPACE, key.userId(), field);
+        }
+        return value;
+    }
+
+    private <T> T read(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @param parameters any further request parameters, in a stable string form
+     */
+    public record ReportKey(UUID userId, String report, String parameters, YearMonth firstMonth, YearMonth lastMonth) {
+
+        private static final String SEPARATOR = "|";
+
+        boolean coversAny(Set<YearMonth> months) {
+            return covers(firstMonth, lastMonth, months);
+        }
+
+        /**
+         * Shared-tier field name; starts with the month range so eviction can match without the key object.
+         */
+        String field() {
+            return firstMonth + SEPARATOR + lastMonth + SEPARATOR + report + SEPARATOR + parameters;
+        }
+
+        static boolean fieldCoversAny(String field, Set<YearMonth> months) {
+            String[] parts = field.split("\\|", 3);
+            try {
+                return covers(YearMonth.parse(parts[0]), YearMonth.parse(parts[1]), months);
+            } catch (RuntimeException ex) {
+                return true;
+            }
+        }
+
+        private static boolean covers(YearMonth first, YearMonth last, Set<YearMonth> months) {
+            return months.stream().anyMatch(month -> !month.isBefore(first) && !month.isAfter(last));
+        }
+
+    }
+
+}
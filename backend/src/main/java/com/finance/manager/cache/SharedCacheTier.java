@@ -0,0 +1,30 @@
+package com.finance.manager.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Cache shared by all application instances, behind the per-instance near-caches. Values are
+ * serialized strings grouped per namespace and user, so all of a user's entries can be
+ * inspected and dropped together, and each entry expires on its own. Implementations degrade
+ * to misses when unavailable.
+ * <p>
+ * Each (namespace, user) group has a generation that {@link #evict} advances before deleting.
+ * A loader reads the generation before computing a value and, after {@link #put}, removes the
+ * value again if the generation moved, so a load racing an eviction never leaves stale data.
+ */
+public interface SharedCacheTier {
+
+    Optional<String> get(String namespace, UUID userId, String field);
+
+    void put(String namespace, UUID userId, String field, String value, Duration ttl);
+
+    void remove(String namespace, UUID userId, String field);
+
+    void evict(String namespace, UUID userId, Predicate<String> fieldFilter);
+
+    long generation(String namespace, UUID userId);
+
+}
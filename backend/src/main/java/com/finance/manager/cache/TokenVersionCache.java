@@ -0,0 +1,50 @@
+package com.finance.manager.cache;
+
+import com.finance.manager.repository.UserRepository;
+import com.finance.manager.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Current token version per user, used to reject JWTs issued before a revocation
+ * (such as a password change) without loading the user on every request.
+ */
+@Component
+public class TokenVersionCache {
+
+    private final Cache<UUID, Optional<Long>> versions;
+    private final UserRepository userRepository;
+
+    public TokenVersionCache(
+            UserRepository userRepository,
+            @Value("${application.cache.token-versions.max-size}") long maxSize,
+            @Value("${application.cache.token-versions.ttl}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isCurrent(UUID userId, Long tokenVersion) {
+        Optional<Long> current = versions.get(userId, userRepository::findTokenVersionById);
+        return current.isPresent() && current.get().equals(tokenVersion);
+    }
+
+    public void evict(UUID userId) {
+        versions.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+}
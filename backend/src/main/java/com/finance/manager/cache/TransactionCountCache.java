@@ -0,0 +1,54 @@
+package com.finance.manager.cache;
+
+import com.finance.manager.entity.TransactionType;
+import com.finance.manager.event.TransactionsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Total row counts for transaction listings, keyed by user and filter combination.
+ * Entries for a user are dropped after any of that user's transaction writes commits.
+ */
+@Component
+public class TransactionCountCache {
+
+    private final Cache<CountKey, Long> counts;
+    private final UserGenerations generations;
+
+    public TransactionCountCache(
+            @Value("${application.cache.transaction-counts.max-size}") long maxSize,
+            @Value("${application.cache.transaction-counts.ttl}") Duration ttl) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.generations = new UserGenerations(maxSize, ttl);
+    }
+
+    public long get(CountKey key, Supplier<Long> loader) {
+        return generations.load(counts, key, key.userId(), loader);
+    }
+
+    public void evictUser(UUID userId) {
+        generations.advance(userId);
+        counts.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        evictUser(event.getUserId());
+    }
+
+    public record CountKey(UUID userId, UUID accountId, UUID categoryId, TransactionType type,
+                           LocalDate startDate, LocalDate endDate) {
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.finance.manager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-user invalidation generations for caches that evict by scanning their keys. A scan does not
+ * see entries whose loader is still running, so a load that began before a write committed could
+ * store pre-write data after the eviction. Evicting advances the user's generation before the
+ * scan, and a load whose generation moved while it ran drops its own entry again.
+ * <p>
+ * Generations are bounded like the cache they guard. Every value comes from one increasing
+ * sequence, so a user whose generation was dropped gets a new one that no running load can match.
+ */
+final class UserGenerations {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<UUID, Long> generations;
+
+    /**
+     * @param maxSize  the guarded cache's maximum size
+     * @param cacheTtl the guarded cache's time to live; generations outlive it
+     */
+    UserGenerations(long maxSize, Duration cacheTtl) {
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(cacheTtl.multipliedBy(2))
+                .build();
+    }
+
+    long current(UUID userId) {
+        return generations.get(userId, ignored -> sequence.incrementAndGet());
+    }
+
+    /**
+     * Call before removing the user's entries.
+     */
+    void advance(UUID userId) {
+        generations.put(userId, sequence.incrementAndGet());
+    }
+
+    <K, V> V load(Cache<K, V> cache, K key, UUID userId, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = current(userId);
+        V value = loader.get();
+        cache.put(key, value);
+        if (current(userId) != generation) {
+            cache.asMap().remove(key, value);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.finance.manager.cache;
+
+import com.finance.manager.event.UserChangedEvent;
+import com.finance.manager.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of user principals by email.
+ */
+@Component
+public class UserLookupCache {
+
+    private final Cache<String, AuthenticatedUser> users;
+
+    public UserLookupCache(
+            @Value("${application.cache.users.max-size}") long maxSize,
+            @Value("${application.cache.users.ttl}") Duration ttl) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+        return users.get(email, loader);
+    }
+
+    public void evict(String email) {
+        users.invalidate(email);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getEmail());
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.finance.manager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.manager.cache.CacheInvalidationBus;
+import com.finance.manager.cache.InMemoryCacheInvalidationBus;
+import com.finance.manager.cache.InMemorySharedCacheTier;
+import com.finance.manager.cache.LocalCacheInvalidationBus;
+import com.finance.manager.cache.NoopSharedCacheTier;
+import com.finance.manager.cache.RedisCacheInvalidationBus;
+import com.finance.manager.cache.RedisSharedCacheTier;
+import com.finance.manager.cache.SharedCacheTier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Chooses the shared cache tier and the invalidation transport. Both default to single-instance
+ * behaviour, so Redis is only contacted when a deployment opts in.
+ */
+@Configuration
+public class CacheTierConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.shared-tier", havingValue = "none", matchIfMissing = true)
+    public SharedCacheTier noopSharedCacheTier() {
+        return new NoopSharedCacheTier();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.shared-tier", havingValue = "in-memory")
+    public SharedCacheTier inMemorySharedCacheTier() {
+        return new InMemorySharedCacheTier();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.shared-tier", havingValue = "redis")
+    public SharedCacheTier redisSharedCacheTier(StringRedisTemplate redisTemplate) {
+        return new RedisSharedCacheTier(redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.invalidation", havingValue = "local", matchIfMissing = true)
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.invalidation", havingValue = "in-memory")
+    public CacheInvalidationBus inMemoryCacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.invalidation", havingValue = "redis")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.invalidation", havingValue = "redis")
+    public CacheInvalidationBus redisCacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                                          RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                                          ObjectMapper objectMapper) {
+        return new RedisCacheInvalidationBus(redisTemplate, cacheInvalidationListenerContainer, objectMapper);
+    }
+
+}
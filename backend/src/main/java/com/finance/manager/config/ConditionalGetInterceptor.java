@@ -0,0 +1,57 @@
+package com.finance.manager.config;
+
+import com.finance.manager.cache.DataVersionCache;
+import com.finance.manager.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Answers conditional GETs on read endpoints from the user's data version alone. The ETag is
+ * computed before the handler runs, so a matching If-None-Match returns 304 without serializing
+ * a body, and without touching the database while the version is near-cached. Cached versions
+ * are only dropped after a write commits, so a response can never carry a newer tag than the
+ * data it was built from.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final DataVersionCache dataVersionCache;
+    private final UserService userService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+
+        UUID userId = userService.getCurrentUserId();
+        Optional<Long> version = dataVersionCache.get(userId);
+        if (version.isEmpty()) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return !new ServletWebRequest(request, response).checkNotModified(etag(userId, version.get()));
+    }
+
+    /**
+     * Includes the user so a browser shared between accounts never revalidates another user's
+     * body, and the current month because the trends report is relative to it.
+     */
+    private String etag(UUID userId, long version) {
+        return "\"" + version + "-" + userId + "-" + YearMonth.now() + "\"";
+    }
+
+}
@@ -3,6 +3,7 @@ package com.finance.manager.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -38,6 +39,8 @@ public class CorsConfig {
             configuration.setAllowedHeaders(Arrays.asList(allowedHeaders.split(",")));
         }
 
+        // Lets browser clients read the tag for conditional GETs
+        configuration.addExposedHeader(HttpHeaders.ETAG);
         configuration.setAllowCredentials(allowCredentials);
         configuration.setMaxAge(3600L);
 
@@ -1,18 +1,24 @@
 package com.finance.manager.controller;
 
+import com.finance.manager.dto.CursorPageResponse;
 import com.finance.manager.dto.account.AccountResponse;
+import com.finance.manager.dto.account.BalanceResponse;
 import com.finance.manager.dto.account.CreateAccountRequest;
+import com.finance.manager.dto.account.LedgerEntryResponse;
 import com.finance.manager.dto.account.UpdateAccountRequest;
 import com.finance.manager.service.AccountService;
+import com.finance.manager.service.BalanceSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +30,7 @@ import java.util.UUID;
 public class AccountController {
 
     private final AccountService accountService;
+    private final BalanceSnapshotService balanceSnapshotService;
 
     @GetMapping
     @Operation(summary = "List all accounts", description = "Retrieves all accounts for the authenticated user")
@@ -39,6 +46,34 @@ public class AccountController {
         return ResponseEntity.ok(account);
     }
 
+    @GetMapping("/{id}/ledger")
+    @Operation(summary = "Get account ledger", description = "Lists the account's transactions newest first with the running balance after each; pass nextCursor from the previous response to continue")
+    public ResponseEntity<CursorPageResponse<LedgerEntryResponse>> getLedger(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size) {
+        CursorPageResponse<LedgerEntryResponse> ledger = accountService.getLedger(id, cursor, size);
+        return ResponseEntity.ok(ledger);
+    }
+
+    @GetMapping("/{id}/balance")
+    @Operation(summary = "Get historical balance", description = "Returns the balance at the end of asOf (default today), computed from the nearest earlier snapshot")
+    public ResponseEntity<BalanceResponse> getBalance(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        BalanceResponse balance = balanceSnapshotService.getBalance(id, asOf);
+        return ResponseEntity.ok(balance);
+    }
+
+    @PostMapping("/{id}/snapshots")
+    @Operation(summary = "Create balance snapshot", description = "Records the balance at the end of date (default today) to speed up historical balance queries")
+    public ResponseEntity<BalanceResponse> createSnapshot(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        BalanceResponse balance = balanceSnapshotService.createSnapshot(id, date);
+        return new ResponseEntity<>(balance, HttpStatus.CREATED);
+    }
+
     @PostMapping
     @Operation(summary = "Create new account", description = "Creates a new account for the authenticated user")
     public ResponseEntity<AccountResponse> createAccount(@Valid @RequestBody CreateAccountRequest request) {
@@ -0,0 +1,42 @@
+package com.finance.manager.controller;
+
+import com.finance.manager.dto.importjob.ImportJobResponse;
+import com.finance.manager.service.ImportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Imports", description = "Background transaction import endpoints")
+public class ImportController {
+
+    private final ImportJobService importJobService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Start import job", description = "Stores the uploaded CSV file and imports it in the background; poll the returned job for progress")
+    public ResponseEntity<ImportJobResponse> createImportJob(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Integer chunkSize) {
+        ImportJobResponse job = importJobService.submit(file, chunkSize);
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get import job progress", description = "Reports processed rows, failures and throughput of an import job")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable UUID id) {
+        ImportJobResponse job = importJobService.getJob(id);
+        return ResponseEntity.ok(job);
+    }
+
+}
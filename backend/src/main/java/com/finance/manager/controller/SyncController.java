@@ -0,0 +1,30 @@
+package com.finance.manager.controller;
+
+import com.finance.manager.dto.sync.DataVersionResponse;
+import com.finance.manager.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Sync", description = "Change detection endpoints")
+public class SyncController {
+
+    private final UserService userService;
+
+    @GetMapping("/version")
+    @Operation(summary = "Get data version", description = "Returns a counter that increases whenever the user's accounts, categories, budgets or transactions change")
+    public ResponseEntity<DataVersionResponse> getVersion() {
+        DataVersionResponse response = userService.getCurrentDataVersion();
+        return ResponseEntity.ok(response);
+    }
+
+}
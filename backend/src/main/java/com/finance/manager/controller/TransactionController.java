@@ -1,9 +1,15 @@
 package com.finance.manager.controller;
 
+import com.finance.manager.dto.CursorPageResponse;
+import com.finance.manager.dto.transaction.BatchImportResponse;
 import com.finance.manager.dto.transaction.CreateTransactionRequest;
+import com.finance.manager.dto.transaction.CsvImportResponse;
 import com.finance.manager.dto.transaction.TransactionResponse;
 import com.finance.manager.dto.transaction.UpdateTransactionRequest;
 import com.finance.manager.entity.TransactionType;
+import com.finance.manager.service.CsvImportService;
+import com.finance.manager.service.TransactionExportService;
+import com.finance.manager.service.TransactionImportService;
 import com.finance.manager.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -15,11 +21,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -30,21 +45,70 @@ import java.util.UUID;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionExportService transactionExportService;
+    private final CsvImportService csvImportService;
 
     @GetMapping
-    @Operation(summary = "List transactions with filters", description = "Retrieves transactions with optional filters and pagination")
+    @Operation(summary = "List transactions with filters", description = "Retrieves transactions with optional filters and pagination; exactCount=false serves the total from a cached count")
     public ResponseEntity<Page<TransactionResponse>> getAllTransactions(
             @RequestParam(required = false) UUID accountId,
             @RequestParam(required = false) UUID categoryId,
             @RequestParam(required = false) TransactionType type,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "true") boolean exactCount,
             @PageableDefault(size = 20, sort = {"transactionDate", "createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
         Page<TransactionResponse> transactions = transactionService.getAllTransactions(
-                accountId, categoryId, type, startDate, endDate, pageable);
+                accountId, categoryId, type, startDate, endDate, pageable, exactCount);
         return ResponseEntity.ok(transactions);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll transactions by cursor", description = "Retrieves transactions newest first using keyset pagination; pass nextCursor from the previous response to continue")
+    public ResponseEntity<CursorPageResponse<TransactionResponse>> getTransactionsByCursor(
+            @RequestParam(required = false) UUID accountId,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size) {
+        CursorPageResponse<TransactionResponse> transactions = transactionService.getTransactionsByCursor(
+                accountId, categoryId, type, startDate, endDate, cursor, size);
+        return ResponseEntity.ok(transactions);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import transactions from a CSV file", description = "Reads the uploaded file row by row, skips and reports invalid rows, and commits valid rows in chunks")
+    public ResponseEntity<CsvImportResponse> importTransactions(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Integer chunkSize) {
+        CsvImportResponse response = csvImportService.importFile(file, chunkSize);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export transactions", description = "Streams all matching transactions newest first as CSV or NDJSON (format=CSV|NDJSON)")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(required = false) UUID accountId,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "CSV") TransactionExportService.Format format) {
+        StreamingResponseBody body = transactionExportService.export(
+                accountId, categoryId, type, startDate, endDate, format);
+        boolean csv = format == TransactionExportService.Format.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "transactions.csv" : "transactions.ndjson")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get transaction details", description = "Retrieves details of a specific transaction")
     public ResponseEntity<TransactionResponse> getTransactionById(@PathVariable UUID id) {
@@ -59,6 +123,21 @@ public class TransactionController {
         return new ResponseEntity<>(transaction, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create transactions in bulk", description = "Creates all transactions in one database transaction and applies one balance change per account")
+    public ResponseEntity<BatchImportResponse> createTransactions(@RequestBody List<CreateTransactionRequest> requests) {
+        BatchImportResponse response = transactionImportService.importTransactions(requests);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @PostMapping(value = "/batch", consumes = "text/csv")
+    @Operation(summary = "Create transactions in bulk from CSV", description = "Accepts a UTF-8 CSV body with a header row: accountId,categoryId,amount,type,description,transactionDate")
+    public ResponseEntity<BatchImportResponse> createTransactionsFromCsv(InputStream body) {
+        BatchImportResponse response = transactionImportService.importCsv(
+                new InputStreamReader(body, StandardCharsets.UTF_8));
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update transaction", description = "Updates a transaction and adjusts account balance")
     public ResponseEntity<TransactionResponse> updateTransaction(
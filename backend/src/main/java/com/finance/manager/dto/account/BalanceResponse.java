@@ -0,0 +1,23 @@
+package com.finance.manager.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceResponse {
+
+    private UUID accountId;
+    private LocalDate asOf;
+    private BigDecimal balance;
+    private LocalDate snapshotDate;
+
+}
@@ -0,0 +1,53 @@
+package com.finance.manager.dto.account;
+
+import com.finance.manager.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque ledger position: the last entry returned, plus the account balance just before it,
+ * which is the balance after the next (older) entry.
+ */
+@Getter
+@AllArgsConstructor
+public class LedgerCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDate transactionDate;
+    private final LocalDateTime createdAt;
+    private final UUID id;
+    private final BigDecimal balance;
+
+    public static LedgerCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new LedgerCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]),
+                    new BigDecimal(parts[3]));
+        } catch (ValidationException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + createdAt + SEPARATOR + id + SEPARATOR + balance.toPlainString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
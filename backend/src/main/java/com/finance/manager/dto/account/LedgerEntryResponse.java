@@ -0,0 +1,30 @@
+package com.finance.manager.dto.account;
+
+import com.finance.manager.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEntryResponse {
+
+    private UUID id;
+    private UUID categoryId;
+    private String categoryName;
+    private BigDecimal amount;
+    private TransactionType type;
+    private String description;
+    private LocalDate transactionDate;
+    private LocalDateTime createdAt;
+    private BigDecimal balanceAfter;
+
+}
@@ -0,0 +1,34 @@
+package com.finance.manager.dto.importjob;
+
+import com.finance.manager.dto.transaction.ImportRowError;
+import com.finance.manager.entity.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+
+    private UUID id;
+    private ImportJobStatus status;
+    private String fileName;
+    private Long processedRows;
+    private Long importedCount;
+    private Long failedCount;
+    private List<ImportRowError> errors;
+    private Boolean errorsTruncated;
+    private String errorMessage;
+    private Double rowsPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+}
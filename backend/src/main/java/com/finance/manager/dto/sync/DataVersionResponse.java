@@ -0,0 +1,16 @@
+package com.finance.manager.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataVersionResponse {
+
+    private long version;
+
+}
@@ -0,0 +1,21 @@
+package com.finance.manager.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchImportResponse {
+
+    private Integer importedCount;
+    private Map<UUID, BigDecimal> balanceChanges;
+
+}
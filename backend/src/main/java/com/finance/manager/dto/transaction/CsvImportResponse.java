@@ -0,0 +1,22 @@
+package com.finance.manager.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CsvImportResponse {
+
+    private Long processedRows;
+    private Long importedCount;
+    private Long failedCount;
+    private List<ImportRowError> errors;
+    private Boolean errorsTruncated;
+
+}
@@ -0,0 +1,54 @@
+package com.finance.manager.dto.transaction;
+
+import com.finance.manager.entity.Transaction;
+import com.finance.manager.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in the (transactionDate, createdAt, id) descending listing order.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDate transactionDate;
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getCreatedAt(), transaction.getId());
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (ValidationException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -37,7 +37,8 @@ public class Account {
     @Column(nullable = false, length = 50)
     private AccountType type;
 
-    @Column(nullable = false, precision = 15, scale = 2)
+    // Written on insert only; later changes go through AccountRepository.adjustBalance
+    @Column(nullable = false, precision = 15, scale = 2, updatable = false)
     @Builder.Default
     private BigDecimal balance = BigDecimal.ZERO;
 
@@ -0,0 +1,8 @@
+package com.finance.manager.entity;
+
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -34,6 +34,17 @@ public class User {
     @Column(nullable = false)
     private String name;
 
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Long tokenVersion = 0L;
+
+    /**
+     * Bumped by a bulk update on every data write, never through the entity.
+     */
+    @Column(name = "data_version", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Long dataVersion = 0L;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,17 @@
+package com.finance.manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Published by account writes; listeners react once the surrounding DB transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountsChangedEvent {
+
+    private final UUID userId;
+
+}
@@ -0,0 +1,17 @@
+package com.finance.manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Published by category writes; listeners react once the surrounding DB transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class CategoriesChangedEvent {
+
+    private final UUID userId;
+
+}
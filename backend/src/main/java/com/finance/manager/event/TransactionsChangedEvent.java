@@ -0,0 +1,20 @@
+package com.finance.manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by transaction writes; listeners react once the surrounding DB transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionsChangedEvent {
+
+    private final UUID userId;
+    private final Set<YearMonth> months;
+
+}
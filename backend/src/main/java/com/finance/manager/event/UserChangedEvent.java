@@ -0,0 +1,18 @@
+package com.finance.manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Published by profile and credential changes; listeners react once the surrounding DB transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final UUID userId;
+    private final String email;
+
+}
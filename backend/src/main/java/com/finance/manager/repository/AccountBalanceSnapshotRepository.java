@@ -0,0 +1,69 @@
+package com.finance.manager.repository;
+
+import com.finance.manager.entity.AccountBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, UUID> {
+
+    Optional<AccountBalanceSnapshot> findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            UUID accountId, LocalDate date);
+
+    /**
+     * Writes the balance at the end of the snapshot date: current balance minus everything dated
+     * after it. The caller must hold the account's row lock, so no uncommitted write is missed.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO account_balance_snapshots " +
+                   "(id, account_id, snapshot_date, balance, created_at, updated_at) " +
+                   "SELECT gen_random_uuid(), a.id, :snapshotDate, " +
+                   "a.balance - COALESCE((SELECT SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END) " +
+                   "FROM transactions t " +
+                   "WHERE t.account_id = a.id AND t.deleted_at IS NULL AND t.transaction_date > :snapshotDate), 0), " +
+                   "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                   "FROM accounts a WHERE a.id = :accountId " +
+                   "ON CONFLICT (account_id, snapshot_date) DO UPDATE SET " +
+                   "balance = EXCLUDED.balance, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int snapshotAccount(@Param("accountId") UUID accountId, @Param("snapshotDate") LocalDate snapshotDate);
+
+    /**
+     * Shifts every snapshot that already counts a transaction dated {@code fromDate} by the change in that transaction.
+     */
+    @Modifying
+    @Query("UPDATE AccountBalanceSnapshot s SET s.balance = s.balance + :delta, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.account.id = :accountId AND s.snapshotDate >= :fromDate")
+    int shiftFrom(@Param("accountId") UUID accountId,
+                  @Param("fromDate") LocalDate fromDate,
+                  @Param("delta") BigDecimal delta);
+
+    /**
+     * Applies many per-date changes in one statement: each snapshot moves by the sum of the changes
+     * dated on or before it. {@code dates} and {@code deltas} are parallel comma-separated lists.
+     */
+    @Modifying
+    @Query(value = "UPDATE account_balance_snapshots s " +
+                   "SET balance = s.balance + d.delta, updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT snap.id, SUM(c.delta) AS delta " +
+                   "FROM account_balance_snapshots snap " +
+                   "JOIN UNNEST(CAST(string_to_array(:dates, ',') AS DATE[]), " +
+                   "CAST(string_to_array(:deltas, ',') AS NUMERIC[])) AS c(transaction_date, delta) " +
+                   "ON c.transaction_date <= snap.snapshot_date " +
+                   "WHERE snap.account_id = :accountId " +
+                   "GROUP BY snap.id) d " +
+                   "WHERE s.id = d.id",
+           nativeQuery = true)
+    int shiftAll(@Param("accountId") UUID accountId,
+                 @Param("dates") String dates,
+                 @Param("deltas") String deltas);
+
+}
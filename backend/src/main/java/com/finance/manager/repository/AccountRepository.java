@@ -3,8 +3,13 @@ package com.finance.manager.repository;
 import com.finance.manager.entity.Account;
 import com.finance.manager.entity.AccountType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,4 +25,24 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
 
     boolean existsByIdAndUserId(UUID id, UUID userId);
 
+    @Query("SELECT a.id FROM Account a WHERE a.id IN :ids AND a.user.id = :userId")
+    List<UUID> findOwnedIds(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    @Query("SELECT a.id FROM Account a ORDER BY a.id")
+    List<UUID> findAllIds();
+
+    /**
+     * Takes the row lock {@link #adjustBalance} takes, without changing the account, until the transaction ends.
+     */
+    @Query(value = "SELECT id FROM accounts WHERE id = :id FOR NO KEY UPDATE", nativeQuery = true)
+    Optional<UUID> lockById(@Param("id") UUID id);
+
+    /**
+     * Flushes pending changes first. A managed Account keeps the balance it was loaded with, so
+     * callers must not read it afterwards; the column is not updatable, so it is never written back.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance + :delta, a.updatedAt = CURRENT_TIMESTAMP WHERE a.id = :id")
+    int adjustBalance(@Param("id") UUID id, @Param("delta") BigDecimal delta);
+
 }
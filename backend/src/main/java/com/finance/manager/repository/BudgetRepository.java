@@ -1,6 +1,7 @@
 package com.finance.manager.repository;
 
 import com.finance.manager.entity.Budget;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +12,7 @@ import java.util.UUID;
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, UUID> {
 
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserIdAndMonthAndYear(UUID userId, Integer month, Integer year);
 
     Optional<Budget> findByUserIdAndCategoryIdAndMonthAndYear(UUID userId, UUID categoryId, Integer month, Integer year);
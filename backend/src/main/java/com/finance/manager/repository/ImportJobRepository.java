@@ -0,0 +1,71 @@
+package com.finance.manager.repository;
+
+import com.finance.manager.entity.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lease queries compare against the database clock, so instances with skewed clocks agree on
+ * when a lease has expired.
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+    Optional<ImportJob> findByIdAndUserId(UUID id, UUID userId);
+
+    /**
+     * Unfinished jobs the given instance may run: its own, unowned ones, and those whose owner's lease lapsed.
+     */
+    @Query(value = "SELECT * FROM import_jobs " +
+                   "WHERE status IN ('PENDING', 'RUNNING') " +
+                   "AND (owner_instance IS NULL OR owner_instance = :owner OR lease_expires_at < LOCALTIMESTAMP) " +
+                   "ORDER BY created_at",
+           nativeQuery = true)
+    List<ImportJob> findClaimable(@Param("owner") String owner);
+
+    /**
+     * Takes or renews the lease on an unfinished job unless another instance holds a live one.
+     * Returns 1 when the caller owns the job afterwards.
+     */
+    @Modifying
+    @Query(value = "UPDATE import_jobs " +
+                   "SET owner_instance = :owner, lease_expires_at = LOCALTIMESTAMP + CAST(:leaseSeconds AS INTEGER) * INTERVAL '1 second' " +
+                   "WHERE id = :id AND status IN ('PENDING', 'RUNNING') " +
+                   "AND (owner_instance IS NULL OR owner_instance = :owner OR lease_expires_at < LOCALTIMESTAMP)",
+           nativeQuery = true)
+    int claim(@Param("id") UUID id, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Extends the lease only while the caller still owns the job; 0 means the job was taken over or finished.
+     */
+    @Modifying
+    @Query(value = "UPDATE import_jobs " +
+                   "SET lease_expires_at = LOCALTIMESTAMP + CAST(:leaseSeconds AS INTEGER) * INTERVAL '1 second' " +
+                   "WHERE id = :id AND owner_instance = :owner AND status IN ('PENDING', 'RUNNING')",
+           nativeQuery = true)
+    int renewLease(@Param("id") UUID id, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query(value = "UPDATE import_jobs " +
+                   "SET lease_expires_at = LOCALTIMESTAMP + CAST(:leaseSeconds AS INTEGER) * INTERVAL '1 second' " +
+                   "WHERE owner_instance = :owner AND status IN ('PENDING', 'RUNNING')",
+           nativeQuery = true)
+    int renewLeases(@Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Gives up the caller's lease so the job can be claimed at once by any instance.
+     */
+    @Modifying
+    @Query(value = "UPDATE import_jobs SET owner_instance = NULL, lease_expires_at = NULL " +
+                   "WHERE id = :id AND owner_instance = :owner",
+           nativeQuery = true)
+    int release(@Param("id") UUID id, @Param("owner") String owner);
+
+}
@@ -0,0 +1,71 @@
+package com.finance.manager.repository;
+
+import com.finance.manager.dto.account.LedgerCursor;
+import com.finance.manager.dto.account.LedgerEntryResponse;
+import com.finance.manager.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads an account's transactions newest first with the balance after each one. The page is cut
+ * with a keyset predicate and LIMIT first, and the running balance is a window sum over that page
+ * only, so the cost of a page does not depend on how much history precedes it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerRepository {
+
+    private static final String PAGE_ORDER = "transaction_date DESC, created_at DESC, id DESC";
+    private static final String INNER_ORDER = "t.transaction_date DESC, t.created_at DESC, t.id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param startBalance balance after the first entry of the page
+     */
+    public List<LedgerEntryResponse> findPage(UUID accountId, LedgerCursor after, BigDecimal startBalance, int limit) {
+        StringBuilder page = new StringBuilder("SELECT t.id, t.category_id, c.name AS category_name, t.amount, " +
+                "t.type, t.description, t.transaction_date, t.created_at, " +
+                "CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END AS signed_amount " +
+                "FROM transactions t " +
+                "JOIN categories c ON c.id = t.category_id " +
+                "WHERE t.account_id = ? AND t.deleted_at IS NULL");
+        List<Object> args = new ArrayList<>();
+        args.add(startBalance);
+        args.add(accountId);
+        if (after != null) {
+            page.append(" AND (t.transaction_date, t.created_at, t.id) < (?, ?, ?)");
+            args.add(after.getTransactionDate());
+            args.add(after.getCreatedAt());
+            args.add(after.getId());
+        }
+        page.append(" ORDER BY ").append(INNER_ORDER).append(" LIMIT ?");
+        args.add(limit);
+
+        // Balance after an entry = start balance minus every newer entry on the page
+        String sql = "SELECT p.*, ? - (SUM(p.signed_amount) OVER (ORDER BY " + PAGE_ORDER +
+                " ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW) - p.signed_amount) AS balance_after " +
+                "FROM (" + page + ") p " +
+                "ORDER BY " + PAGE_ORDER;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> LedgerEntryResponse.builder()
+                .id(rs.getObject("id", UUID.class))
+                .categoryId(rs.getObject("category_id", UUID.class))
+                .categoryName(rs.getString("category_name"))
+                .amount(rs.getBigDecimal("amount"))
+                .type(TransactionType.valueOf(rs.getString("type")))
+                .description(rs.getString("description"))
+                .transactionDate(rs.getObject("transaction_date", LocalDate.class))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .balanceAfter(rs.getBigDecimal("balance_after"))
+                .build(), args.toArray());
+    }
+
+}
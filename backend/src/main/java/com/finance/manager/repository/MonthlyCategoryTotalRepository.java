@@ -0,0 +1,89 @@
+package com.finance.manager.repository;
+
+import com.finance.manager.entity.MonthlyCategoryTotal;
+import com.finance.manager.entity.TransactionType;
+import com.finance.manager.repository.projection.CategoryTotalView;
+import com.finance.manager.repository.projection.MonthlyTypeTotalView;
+import com.finance.manager.repository.projection.TypeTotalView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MonthlyCategoryTotalRepository extends JpaRepository<MonthlyCategoryTotal, UUID> {
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_category_totals " +
+           "(id, user_id, year, month, category_id, type, total_amount, transaction_count, updated_at) " +
+           "VALUES (gen_random_uuid(), :userId, :year, :month, :categoryId, :type, :amountDelta, :countDelta, CURRENT_TIMESTAMP) " +
+           "ON CONFLICT (user_id, year, month, category_id, type) DO UPDATE SET " +
+           "total_amount = monthly_category_totals.total_amount + EXCLUDED.total_amount, " +
+           "transaction_count = monthly_category_totals.transaction_count + EXCLUDED.transaction_count, " +
+           "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    void applyDelta(@Param("userId") UUID userId,
+                    @Param("year") Integer year,
+                    @Param("month") Integer month,
+                    @Param("categoryId") UUID categoryId,
+                    @Param("type") String type,
+                    @Param("amountDelta") BigDecimal amountDelta,
+                    @Param("countDelta") Long countDelta);
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_category_totals", nativeQuery = true)
+    int deleteAllTotals();
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_category_totals " +
+           "(id, user_id, year, month, category_id, type, total_amount, transaction_count, updated_at) " +
+           "SELECT gen_random_uuid(), a.user_id, " +
+           "CAST(EXTRACT(YEAR FROM t.transaction_date) AS INTEGER), " +
+           "CAST(EXTRACT(MONTH FROM t.transaction_date) AS INTEGER), " +
+           "t.category_id, t.type, SUM(t.amount), COUNT(*), CURRENT_TIMESTAMP " +
+           "FROM transactions t " +
+           "JOIN accounts a ON a.id = t.account_id " +
+           "WHERE t.deleted_at IS NULL " +
+           "GROUP BY a.user_id, EXTRACT(YEAR FROM t.transaction_date), EXTRACT(MONTH FROM t.transaction_date), " +
+           "t.category_id, t.type",
+           nativeQuery = true)
+    int backfillFromTransactions();
+
+    @Query("SELECT m.type AS type, SUM(m.totalAmount) AS total, SUM(m.transactionCount) AS transactionCount " +
+           "FROM MonthlyCategoryTotal m " +
+           "WHERE m.user.id = :userId AND m.year = :year AND m.month = :month " +
+           "GROUP BY m.type")
+    List<TypeTotalView> sumByType(@Param("userId") UUID userId,
+                                  @Param("year") Integer year,
+                                  @Param("month") Integer month);
+
+    @Query("SELECT c.id AS categoryId, c.name AS categoryName, c.icon AS categoryIcon, c.color AS categoryColor, " +
+           "SUM(m.totalAmount) AS total, SUM(m.transactionCount) AS transactionCount " +
+           "FROM MonthlyCategoryTotal m " +
+           "JOIN m.category c " +
+           "WHERE m.user.id = :userId " +
+           "AND m.type = :type " +
+           "AND m.year * 12 + m.month BETWEEN :fromPeriod AND :toPeriod " +
+           "GROUP BY c.id, c.name, c.icon, c.color " +
+           "HAVING SUM(m.transactionCount) > 0 " +
+           "ORDER BY SUM(m.totalAmount) DESC")
+    List<CategoryTotalView> sumByCategory(@Param("userId") UUID userId,
+                                          @Param("type") TransactionType type,
+                                          @Param("fromPeriod") Integer fromPeriod,
+                                          @Param("toPeriod") Integer toPeriod);
+
+    @Query("SELECT m.year AS periodYear, m.month AS periodMonth, m.type AS type, SUM(m.totalAmount) AS total " +
+           "FROM MonthlyCategoryTotal m " +
+           "WHERE m.user.id = :userId " +
+           "AND m.year * 12 + m.month BETWEEN :fromPeriod AND :toPeriod " +
+           "GROUP BY m.year, m.month, m.type")
+    List<MonthlyTypeTotalView> sumByMonthAndType(@Param("userId") UUID userId,
+                                                 @Param("fromPeriod") Integer fromPeriod,
+                                                 @Param("toPeriod") Integer toPeriod);
+
+}
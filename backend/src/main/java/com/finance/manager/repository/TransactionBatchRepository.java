@@ -0,0 +1,55 @@
+package com.finance.manager.repository;
+
+import com.finance.manager.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk inserts transactions through JDBC batching. Ids are generated here rather than by Hibernate,
+ * so rows go to the database in multi-row batches instead of one statement per entity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO transactions " +
+            "(id, account_id, category_id, amount, type, description, transaction_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given transactions, assigning each an id and timestamps. Must run inside the caller's transaction.
+     */
+    public void insertAll(List<Transaction> transactions) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        for (Transaction transaction : transactions) {
+            transaction.setId(UUID.randomUUID());
+            transaction.setCreatedAt(now);
+            transaction.setUpdatedAt(now);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, BATCH_SIZE, (ps, transaction) -> {
+            ps.setObject(1, transaction.getId());
+            ps.setObject(2, transaction.getAccount().getId());
+            ps.setObject(3, transaction.getCategory().getId());
+            ps.setBigDecimal(4, transaction.getAmount());
+            ps.setString(5, transaction.getType().name());
+            ps.setString(6, transaction.getDescription());
+            ps.setDate(7, Date.valueOf(transaction.getTransactionDate()));
+            ps.setTimestamp(8, timestamp);
+            ps.setTimestamp(9, timestamp);
+        });
+    }
+
+}
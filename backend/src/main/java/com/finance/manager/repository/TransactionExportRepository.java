@@ -0,0 +1,91 @@
+package com.finance.manager.repository;
+
+import com.finance.manager.dto.transaction.TransactionResponse;
+import com.finance.manager.entity.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads filtered transactions through a forward-only JDBC cursor for exports. PostgreSQL only
+ * honours the fetch size inside a transaction, so callers must stream within one.
+ */
+@Repository
+public class TransactionExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransactionExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Passes each matching row to the consumer, newest first, without collecting them.
+     * Filters mirror {@link TransactionSpecifications#filter}.
+     */
+    public void forEachByFilters(UUID userId, UUID accountId, UUID categoryId, TransactionType type,
+                                 LocalDate startDate, LocalDate endDate, Consumer<TransactionResponse> consumer) {
+        StringBuilder sql = new StringBuilder("SELECT t.id, t.account_id, a.name AS account_name, " +
+                "t.category_id, c.name AS category_name, t.amount, t.type, t.description, " +
+                "t.transaction_date, t.created_at, t.updated_at " +
+                "FROM transactions t " +
+                "JOIN accounts a ON a.id = t.account_id " +
+                "JOIN categories c ON c.id = t.category_id " +
+                "WHERE a.user_id = ? AND t.deleted_at IS NULL");
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        if (accountId != null) {
+            sql.append(" AND t.account_id = ?");
+            args.add(accountId);
+        }
+        if (categoryId != null) {
+            sql.append(" AND t.category_id = ?");
+            args.add(categoryId);
+        }
+        if (type != null) {
+            sql.append(" AND t.type = ?");
+            args.add(type.name());
+        }
+        if (startDate != null) {
+            sql.append(" AND t.transaction_date >= ?");
+            args.add(startDate);
+        }
+        if (endDate != null) {
+            sql.append(" AND t.transaction_date <= ?");
+            args.add(endDate);
+        }
+        sql.append(" ORDER BY t.transaction_date DESC, t.created_at DESC, t.id DESC");
+
+        jdbcTemplate.query(sql.toString(), rs -> {
+            consumer.accept(TransactionResponse.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .accountId(rs.getObject("account_id", UUID.class))
+                    .accountName(rs.getString("account_name"))
+                    .categoryId(rs.getObject("category_id", UUID.class))
+                    .categoryName(rs.getString("category_name"))
+                    .amount(rs.getBigDecimal("amount"))
+                    .type(TransactionType.valueOf(rs.getString("type")))
+                    .description(rs.getString("description"))
+                    .transactionDate(rs.getObject("transaction_date", LocalDate.class))
+                    .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                    .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                    .build());
+        }, args.toArray());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+}
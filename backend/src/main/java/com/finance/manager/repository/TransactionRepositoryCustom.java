@@ -0,0 +1,16 @@
+package com.finance.manager.repository;
+
+import com.finance.manager.entity.Transaction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TransactionRepositoryCustom {
+
+    /**
+     * Fetches a window of transactions with account and category loaded, without issuing a count query.
+     */
+    List<Transaction> findSlice(Specification<Transaction> spec, Sort sort, long offset, int limit);
+
+}
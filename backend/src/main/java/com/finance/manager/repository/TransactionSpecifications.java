@@ -0,0 +1,89 @@
+package com.finance.manager.repository;
+
+import com.finance.manager.entity.Transaction;
+import com.finance.manager.entity.TransactionType;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Building blocks for transaction listing queries. Only the filters that are actually
+ * supplied become predicates, so each combination gets its own plan.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> filter(UUID userId, UUID accountId, UUID categoryId,
+                                                    TransactionType type, LocalDate startDate, LocalDate endDate) {
+        Specification<Transaction> spec = Specification.where(belongsToUser(userId)).and(isActive());
+        if (accountId != null) {
+            spec = spec.and(hasAccount(accountId));
+        }
+        if (categoryId != null) {
+            spec = spec.and(hasCategory(categoryId));
+        }
+        if (type != null) {
+            spec = spec.and(hasType(type));
+        }
+        if (startDate != null) {
+            spec = spec.and(onOrAfter(startDate));
+        }
+        if (endDate != null) {
+            spec = spec.and(onOrBefore(endDate));
+        }
+        return spec;
+    }
+
+    public static Specification<Transaction> belongsToUser(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("account").get("user").get("id"), userId);
+    }
+
+    public static Specification<Transaction> isActive() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    public static Specification<Transaction> hasAccount(UUID accountId) {
+        return (root, query, cb) -> cb.equal(root.get("account").get("id"), accountId);
+    }
+
+    public static Specification<Transaction> hasCategory(UUID categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Transaction> onOrAfter(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("transactionDate"), startDate);
+    }
+
+    public static Specification<Transaction> onOrBefore(LocalDate endDate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("transactionDate"), endDate);
+    }
+
+    /**
+     * Keyset predicate for rows after the given position in (transactionDate, createdAt, id) descending order.
+     * The leading date bound lets the planner start a range scan on the listing index.
+     */
+    public static Specification<Transaction> before(LocalDate transactionDate, LocalDateTime createdAt, UUID id) {
+        return (root, query, cb) -> {
+            Path<LocalDate> datePath = root.get("transactionDate");
+            Path<LocalDateTime> createdAtPath = root.get("createdAt");
+            Path<UUID> idPath = root.get("id");
+            return cb.and(
+                    cb.lessThanOrEqualTo(datePath, transactionDate),
+                    cb.or(
+                            cb.lessThan(datePath, transactionDate),
+                            cb.and(cb.equal(datePath, transactionDate), cb.lessThan(createdAtPath, createdAt)),
+                            cb.and(cb.equal(datePath, transactionDate), cb.equal(createdAtPath, createdAt),
+                                    cb.lessThan(idPath, id))));
+        };
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.finance.manager.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface CategoryTotalView {
+
+    UUID getCategoryId();
+
+    String getCategoryName();
+
+    String getCategoryIcon();
+
+    String getCategoryColor();
+
+    BigDecimal getTotal();
+
+    Long getTransactionCount();
+
+}
@@ -0,0 +1,17 @@
+package com.finance.manager.repository.projection;
+
+import com.finance.manager.entity.TransactionType;
+
+import java.math.BigDecimal;
+
+public interface MonthlyTypeTotalView {
+
+    Integer getPeriodYear();
+
+    Integer getPeriodMonth();
+
+    TransactionType getType();
+
+    BigDecimal getTotal();
+
+}
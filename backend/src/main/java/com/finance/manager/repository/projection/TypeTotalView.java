@@ -0,0 +1,15 @@
+package com.finance.manager.repository.projection;
+
+import com.finance.manager.entity.TransactionType;
+
+import java.math.BigDecimal;
+
+public interface TypeTotalView {
+
+    TransactionType getType();
+
+    BigDecimal getTotal();
+
+    Long getTransactionCount();
+
+}
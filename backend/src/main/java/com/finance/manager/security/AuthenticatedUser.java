@@ -0,0 +1,65 @@
+package com.finance.manager.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal stored in the SecurityContext. Carries the user id so services never need
+ * to resolve the current user by email. Deliberately not a CredentialsContainer: instances
+ * are shared through the user lookup cache and must not have their password hash erased.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements UserDetails {
+
+    private final UUID id;
+    private final String email;
+    private final String passwordHash;
+    private final Long tokenVersion;
+    /**
+     * Display name, available when the principal was loaded from the database; null when rebuilt from a JWT.
+     */
+    private final String name;
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.finance.manager.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the highest BCrypt cost whose hash time on this machine stays within the target latency.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis) {
+        // Warm up the hashing code path so the first measurement is not dominated by class loading and JIT
+        measure(4);
+
+        int strength = MIN_STRENGTH;
+        long elapsed = measure(strength);
+
+        // Each cost step doubles the work, so stop before the next step would exceed the target
+        while (strength < MAX_STRENGTH && elapsed * 2 <= targetMillis) {
+            strength++;
+            elapsed = measure(strength);
+        }
+
+        log.info("Calibrated BCrypt strength {} ({} ms per hash, target {} ms)", strength, elapsed, targetMillis);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+}
@@ -1,61 +1,90 @@
 package com.finance.manager.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
-
+import java.util.UUID;
+
+/**
+ * Signs tokens with the active key and verifies them against every configured key, selected by
+ * the {@code kid} header. Keys and the parser are built once at startup; both are immutable and
+ * thread-safe. To rotate, move the current key into {@code previous-keys} and configure a new
+ * {@code secret}/{@code key-id}; tokens signed with the old key stay valid until they expire.
+ */
 @Component
 public class JwtUtil {
 
-    @Value("${application.jwt.secret}")
-    private String secret;
-
-    @Value("${application.jwt.expiration}")
-    private Long expiration;
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String TOKEN_VERSION_CLAIM = "tv";
+
+    private final Long expiration;
+    private final String activeKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+
+    public JwtUtil(@Value("${application.jwt.secret}") String secret,
+                   @Value("${application.jwt.key-id}") String keyId,
+                   @Value("${application.jwt.previous-keys}") String previousKeys,
+                   @Value("${application.jwt.expiration}") Long expiration) {
+        this.expiration = expiration;
+        this.activeKeyId = keyId;
+        this.signingKey = toKey(secret);
+
+        Map<String, SecretKey> keys = new HashMap<>(parsePreviousKeys(previousKeys));
+        keys.put(keyId, signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return resolveVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    /**
+     * Verifies the signature and expiry and returns the claims, parsing the token exactly once.
+     * Throws a {@link io.jsonwebtoken.JwtException} for any invalid or expired token.
+     */
+    public Claims parseToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Rebuilds the principal from verified claims without touching the database.
+     * Returns null for tokens issued before user id claims were embedded.
+     */
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        Long tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Long.class);
+        if (userId == null || tokenVersion == null) {
+            return null;
+        }
+        return new AuthenticatedUser(UUID.fromString(userId), claims.getSubject(), null, tokenVersion, null);
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(AuthenticatedUser user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        return createToken(claims, user.getUsername());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
@@ -63,17 +92,45 @@ public class JwtUtil {
         Date expirationDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
+                .header().keyId(activeKeyId).and()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expirationDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    private Key resolveVerificationKey(String keyId) {
+        // Tokens issued before key ids were introduced carry no kid and were signed with the active secret
+        if (keyId == null) {
+            return signingKey;
+        }
+        SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key id: " + keyId);
+        }
+        return key;
+    }
+
+    private static Map<String, SecretKey> parsePreviousKeys(String previousKeys) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        if (!StringUtils.hasText(previousKeys)) {
+            return keys;
+        }
+        for (String entry : previousKeys.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0 || separator == trimmed.length() - 1) {
+                throw new IllegalStateException("Invalid entry in application.jwt.previous-keys, expected kid:secret");
+            }
+            keys.put(trimmed.substring(0, separator), toKey(trimmed.substring(separator + 1)));
+        }
+        return keys;
+    }
+
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
 
 }
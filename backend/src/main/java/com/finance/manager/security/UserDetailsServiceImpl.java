@@ -1,33 +1,51 @@
 package com.finance.manager.security;
 
+import com.finance.manager.cache.UserLookupCache;
 import com.finance.manager.entity.User;
+import com.finance.manager.event.UserChangedEvent;
 import com.finance.manager.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userLookupCache.get(email, this::loadFromDatabase);
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPasswordHash) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+
+        user.setPasswordHash(newPasswordHash);
+        userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
+
+        return new AuthenticatedUser(user.getId(), user.getEmail(), newPasswordHash, user.getTokenVersion(),
+                user.getName());
+    }
+
+    private AuthenticatedUser loadFromDatabase(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPasswordHash(),
-                new ArrayList<>()
-        );
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPasswordHash(), user.getTokenVersion(),
+                user.getName());
     }
 
 }
@@ -1,18 +1,28 @@
 package com.finance.manager.service;
 
+import com.finance.manager.dto.CursorPageResponse;
 import com.finance.manager.dto.account.AccountResponse;
 import com.finance.manager.dto.account.CreateAccountRequest;
+import com.finance.manager.dto.account.LedgerCursor;
+import com.finance.manager.dto.account.LedgerEntryResponse;
 import com.finance.manager.dto.account.UpdateAccountRequest;
 import com.finance.manager.entity.Account;
+import com.finance.manager.entity.TransactionType;
 import com.finance.manager.entity.User;
+import com.finance.manager.event.AccountsChangedEvent;
 import com.finance.manager.exception.ResourceNotFoundException;
 import com.finance.manager.exception.ValidationException;
 import com.finance.manager.repository.AccountRepository;
+import com.finance.manager.repository.LedgerRepository;
 import com.finance.manager.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -21,9 +31,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountService {
 
+    private static final int MAX_LEDGER_PAGE_SIZE = 100;
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final LedgerRepository ledgerRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AccountResponse> getAllAccounts() {
         UUID userId = userService.getCurrentUserId();
@@ -39,9 +53,47 @@ public class AccountService {
         return mapToResponse(account);
     }
 
+    /**
+     * Returns the account's transactions newest first, each with the balance right after it. The first
+     * page starts from the current balance; later pages carry their starting balance in the cursor.
+     * Runs on one snapshot so the balance and the page agree under concurrent writes.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public CursorPageResponse<LedgerEntryResponse> getLedger(UUID id, String cursor, int size) {
+        UUID userId = userService.getCurrentUserId();
+        Account account = accountRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account", "id", id));
+        int pageSize = Math.max(1, Math.min(size, MAX_LEDGER_PAGE_SIZE));
+
+        LedgerCursor after = StringUtils.hasText(cursor) ? LedgerCursor.decode(cursor) : null;
+        BigDecimal startBalance = after != null ? after.getBalance() : account.getBalance();
+
+        // Fetch one extra row to learn whether another page exists without counting
+        List<LedgerEntryResponse> rows = ledgerRepository.findPage(id, after, startBalance, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<LedgerEntryResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            LedgerEntryResponse last = content.get(content.size() - 1);
+            BigDecimal balanceBefore = last.getType() == TransactionType.INCOME
+                    ? last.getBalanceAfter().subtract(last.getAmount())
+                    : last.getBalanceAfter().add(last.getAmount());
+            nextCursor = new LedgerCursor(last.getTransactionDate(), last.getCreatedAt(), last.getId(), balanceBefore)
+                    .encode();
+        }
+
+        return CursorPageResponse.<LedgerEntryResponse>builder()
+                .content(content)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Transactional
     public AccountResponse createAccount(CreateAccountRequest request) {
-        User user = userService.getCurrentUser();
+        User user = userService.getCurrentUserReference();
 
         Account account = Account.builder()
                 .user(user)
@@ -52,6 +104,8 @@ public class AccountService {
                 .build();
 
         account = accountRepository.save(account);
+        userService.incrementDataVersion(user.getId());
+        eventPublisher.publishEvent(new AccountsChangedEvent(user.getId()));
         return mapToResponse(account);
     }
 
@@ -65,6 +119,8 @@ public class AccountService {
         account.setType(request.getType());
 
         account = accountRepository.save(account);
+        userService.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new AccountsChangedEvent(userId));
         return mapToResponse(account);
     }
 
@@ -79,6 +135,8 @@ public class AccountService {
         }
 
         accountRepository.delete(account);
+        userService.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new AccountsChangedEvent(userId));
     }
 
     private AccountResponse mapToResponse(Account account) {
@@ -6,69 +6,75 @@ import com.finance.manager.dto.auth.RegisterRequest;
 import com.finance.manager.entity.User;
 import com.finance.manager.exception.ValidationException;
 import com.finance.manager.repository.UserRepository;
+import com.finance.manager.security.AuthenticatedUser;
 import com.finance.manager.security.JwtUtil;
+import com.finance.manager.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    // PostgreSQL's name for the unnamed unique constraint on users.email, and its unique_violation state
+    private static final String EMAIL_CONSTRAINT = "users_email_key";
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
 
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new ValidationException("Email is already registered");
-        }
-
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHashingService.encode(request.getPassword()))
                 .build();
 
-        user = userRepository.save(user);
-
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        // The unique constraint on users.email rejects duplicates, so no existence pre-check is needed
+        try {
+            user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateEmail(ex)) {
+                throw new ValidationException("Email is already registered");
+            }
+            throw ex;
+        }
 
-        return AuthResponse.builder()
-                .token(token)
-                .type("Bearer")
-                .userId(user.getId())
-                .email(user.getEmail())
-                .name(user.getName())
-                .build();
+        AuthenticatedUser principal = new AuthenticatedUser(
+                user.getId(), user.getEmail(), user.getPasswordHash(), user.getTokenVersion(), user.getName());
+        return buildResponse(principal);
     }
 
     public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = passwordHashingService.execute(() -> authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        ));
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ValidationException("User not found"));
+        return buildResponse((AuthenticatedUser) authentication.getPrincipal());
+    }
+
+    private boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && UNIQUE_VIOLATION.equals(violation.getSQLState())
+                && EMAIL_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+    }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+    private AuthResponse buildResponse(AuthenticatedUser principal) {
+        String token = jwtUtil.generateToken(principal);
 
         return AuthResponse.builder()
                 .token(token)
                 .type("Bearer")
-                .userId(user.getId())
-                .email(user.getEmail())
-                .name(user.getName())
+                .userId(principal.getId())
+                .email(principal.getEmail())
+                .name(principal.getName())
                 .build();
     }
 
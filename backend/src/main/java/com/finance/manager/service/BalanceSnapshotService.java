@@ -0,0 +1,142 @@
+package com.finance.manager.service;
+
+import com.finance.manager.dto.account.BalanceResponse;
+import com.finance.manager.entity.Account;
+import com.finance.manager.entity.AccountBalanceSnapshot;
+import com.finance.manager.exception.ResourceNotFoundException;
+import com.finance.manager.repository.AccountBalanceSnapshotRepository;
+import com.finance.manager.repository.AccountRepository;
+import com.finance.manager.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps end-of-day balance snapshots so a historical balance only sums the transactions between
+ * the nearest earlier snapshot and the requested date. Snapshots are taken for every account at
+ * month end and on demand; writes to transactions dated on or before a snapshot shift it in the
+ * same database transaction. Writers and snapshots both hold the account's row lock, so a snapshot
+ * never misses a write that has not committed yet.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSnapshotService {
+
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Balance at the end of {@code asOf}. Without an earlier snapshot it falls back to the current
+     * balance minus everything dated later.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public BalanceResponse getBalance(UUID accountId, LocalDate asOf) {
+        Account account = findOwnedAccount(accountId);
+        LocalDate date = asOf != null ? asOf : LocalDate.now();
+
+        Optional<AccountBalanceSnapshot> snapshot = snapshotRepository
+                .findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(accountId, date);
+        BigDecimal balance = snapshot
+                .map(s -> s.getBalance().add(
+                        transactionRepository.sumSignedAmountBetween(accountId, s.getSnapshotDate(), date)))
+                .orElseGet(() -> account.getBalance().subtract(
+                        transactionRepository.sumSignedAmountAfter(accountId, date)));
+
+        return BalanceResponse.builder()
+                .accountId(accountId)
+                .asOf(date)
+                .balance(balance)
+                .snapshotDate(snapshot.map(AccountBalanceSnapshot::getSnapshotDate).orElse(null))
+                .build();
+    }
+
+    @Transactional
+    public BalanceResponse createSnapshot(UUID accountId, LocalDate date) {
+        findOwnedAccount(accountId);
+        LocalDate snapshotDate = date != null ? date : LocalDate.now();
+        snapshot(accountId, snapshotDate);
+        return getBalance(accountId, snapshotDate);
+    }
+
+    /**
+     * Snapshots every account at the end of the previous month, one account per transaction so
+     * writers wait on one account lock at a time. Re-running it rewrites the same rows.
+     */
+    @Scheduled(cron = "${application.snapshots.month-end-cron}")
+    public void createMonthEndSnapshots() {
+        LocalDate monthEnd = YearMonth.now().minusMonths(1).atEndOfMonth();
+        int written = 0;
+        for (UUID accountId : accountRepository.findAllIds()) {
+            Integer rows = transactionTemplate.execute(status -> snapshot(accountId, monthEnd));
+            written += rows != null ? rows : 0;
+        }
+        log.info("Wrote {} balance snapshots for {}", written, monthEnd);
+    }
+
+    /**
+     * Adjusts snapshots that already include a transaction dated {@code transactionDate}.
+     * The caller must hold the account's row lock.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelta(UUID accountId, LocalDate transactionDate, BigDecimal delta) {
+        if (delta.signum() != 0) {
+            snapshotRepository.shiftFrom(accountId, transactionDate, delta);
+        }
+    }
+
+    /**
+     * Applies changes for many transaction dates of one account in a single statement.
+     * The caller must hold the account's row lock.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDeltas(UUID accountId, Map<LocalDate, BigDecimal> deltasByDate) {
+        Map<LocalDate, BigDecimal> deltas = deltasByDate.entrySet().stream()
+                .filter(entry -> entry.getValue().signum() != 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (deltas.size() == 1) {
+            Map.Entry<LocalDate, BigDecimal> only = deltas.entrySet().iterator().next();
+            snapshotRepository.shiftFrom(accountId, only.getKey(), only.getValue());
+            return;
+        }
+        String dates = deltas.keySet().stream().map(LocalDate::toString).collect(Collectors.joining(","));
+        String amounts = deltas.keySet().stream()
+                .map(date -> deltas.get(date).toPlainString())
+                .collect(Collectors.joining(","));
+        snapshotRepository.shiftAll(accountId, dates, amounts);
+    }
+
+    /**
+     * Locks the account first, so writers still holding it commit before the snapshot reads the balance.
+     */
+    private int snapshot(UUID accountId, LocalDate snapshotDate) {
+        accountRepository.lockById(accountId);
+        return snapshotRepository.snapshotAccount(accountId, snapshotDate);
+    }
+
+    private Account findOwnedAccount(UUID accountId) {
+        UUID userId = userService.getCurrentUserId();
+        return accountRepository.findByIdAndUserId(accountId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account", "id", accountId));
+    }
+
+}
@@ -1,24 +1,26 @@
 package com.finance.manager.service;
 
+import com.finance.manager.cache.CategoryCache;
 import com.finance.manager.dto.budget.BudgetResponse;
 import com.finance.manager.dto.budget.CreateBudgetRequest;
 import com.finance.manager.entity.Budget;
-import com.finance.manager.entity.Category;
 import com.finance.manager.entity.TransactionType;
 import com.finance.manager.entity.User;
+import com.finance.manager.event.BudgetsChangedEvent;
 import com.finance.manager.exception.ResourceNotFoundException;
 import com.finance.manager.exception.UnauthorizedException;
 import com.finance.manager.repository.BudgetRepository;
 import com.finance.manager.repository.CategoryRepository;
-import com.finance.manager.repository.TransactionRepository;
+import com.finance.manager.repository.projection.CategoryTotalView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -29,22 +31,30 @@ public class BudgetService {
 
     private final BudgetRepository budgetRepository;
     private final CategoryRepository categoryRepository;
-    private final TransactionRepository transactionRepository;
+    private final CategoryCache categoryCache;
+    private final MonthlyRollupService monthlyRollupService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<BudgetResponse> getBudgetsByPeriod(Integer month, Integer year) {
         UUID userId = userService.getCurrentUserId();
-        return budgetRepository.findByUserIdAndMonthAndYear(userId, month, year).stream()
-                .map(this::mapToResponse)
+        List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, BigDecimal> spentByCategory = getSpentByCategory(userId, month, year);
+        return budgets.stream()
+                .map(budget -> mapToResponse(budget, spentByCategory))
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public BudgetResponse createOrUpdateBudget(CreateBudgetRequest request) {
-        User user = userService.getCurrentUser();
-        UUID userId = user.getId();
+        UUID userId = userService.getCurrentUserId();
+        User user = userService.getCurrentUserReference();
 
-        Category category = categoryRepository.findById(request.getCategoryId())
+        CategoryCache.CachedCategory category = categoryCache.findAvailable(userId, request.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
 
         Optional<Budget> existingBudget = budgetRepository.findByUserIdAndCategoryIdAndMonthAndYear(
@@ -57,7 +67,7 @@ public class BudgetService {
         } else {
             budget = Budget.builder()
                     .user(user)
-                    .category(category)
+                    .category(categoryRepository.getReferenceById(category.id()))
                     .amount(request.getAmount())
                     .month(request.getMonth())
                     .year(request.getYear())
@@ -65,7 +75,10 @@ public class BudgetService {
         }
 
         budget = budgetRepository.save(budget);
-        return mapToResponse(budget);
+        userService.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new BudgetsChangedEvent(userId));
+        Map<UUID, BigDecimal> spentByCategory = getSpentByCategory(userId, budget.getMonth(), budget.getYear());
+        return mapToResponse(budget, spentByCategory, category.name());
     }
 
     @Transactional
@@ -75,16 +88,30 @@ public class BudgetService {
                 .orElseThrow(() -> new ResourceNotFoundException("Budget", "id", id));
 
         budgetRepository.delete(budget);
+        userService.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new BudgetsChangedEvent(userId));
+    }
+
+    private Map<UUID, BigDecimal> getSpentByCategory(UUID userId, Integer month, Integer year) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+
+        return monthlyRollupService.getCategoryTotals(userId, TransactionType.EXPENSE, yearMonth, yearMonth)
+                .stream()
+                .collect(Collectors.toMap(CategoryTotalView::getCategoryId, CategoryTotalView::getTotal));
     }
 
-    private BudgetResponse mapToResponse(Budget budget) {
-        BigDecimal spent = calculateSpentAmount(budget);
+    private BudgetResponse mapToResponse(Budget budget, Map<UUID, BigDecimal> spentByCategory) {
+        return mapToResponse(budget, spentByCategory, budget.getCategory().getName());
+    }
+
+    private BudgetResponse mapToResponse(Budget budget, Map<UUID, BigDecimal> spentByCategory, String categoryName) {
+        BigDecimal spent = spentByCategory.getOrDefault(budget.getCategory().getId(), BigDecimal.ZERO);
         BigDecimal remaining = budget.getAmount().subtract(spent);
 
         return BudgetResponse.builder()
                 .id(budget.getId())
                 .categoryId(budget.getCategory().getId())
-                .categoryName(budget.getCategory().getName())
+                .categoryName(categoryName)
                 .amount(budget.getAmount())
                 .spent(spent)
                 .remaining(remaining.max(BigDecimal.ZERO))
@@ -94,17 +121,4 @@ public class BudgetService {
                 .build();
     }
 
-    private BigDecimal calculateSpentAmount(Budget budget) {
-        YearMonth yearMonth = YearMonth.of(budget.getYear(), budget.getMonth());
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
-
-        return transactionRepository.findByUserIdAndTypeAndDateRange(
-                budget.getUser().getId(), TransactionType.EXPENSE, startDate, endDate)
-                .stream()
-                .filter(t -> t.getCategory().getId().equals(budget.getCategory().getId()))
-                .map(t -> t.getAmount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
 }
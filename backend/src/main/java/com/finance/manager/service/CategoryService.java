@@ -1,16 +1,19 @@
 package com.finance.manager.service;
 
+import com.finance.manager.cache.CategoryCache;
 import com.finance.manager.dto.category.CategoryResponse;
 import com.finance.manager.dto.category.CreateCategoryRequest;
 import com.finance.manager.dto.category.UpdateCategoryRequest;
 import com.finance.manager.entity.Category;
 import com.finance.manager.entity.User;
+import com.finance.manager.event.CategoriesChangedEvent;
 import com.finance.manager.exception.ResourceNotFoundException;
 import com.finance.manager.exception.UnauthorizedException;
 import com.finance.manager.exception.ValidationException;
 import com.finance.manager.repository.CategoryRepository;
 import com.finance.manager.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,17 +28,19 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final TransactionRepository transactionRepository;
     private final UserService userService;
+    private final CategoryCache categoryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<CategoryResponse> getAllCategories() {
         UUID userId = userService.getCurrentUserId();
-        return categoryRepository.findAllAvailableForUser(userId).stream()
+        return categoryCache.getAvailable(userId).stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public CategoryResponse createCategory(CreateCategoryRequest request) {
-        User user = userService.getCurrentUser();
+        User user = userService.getCurrentUserReference();
 
         Category category = Category.builder()
                 .user(user)
@@ -47,6 +52,8 @@ public class CategoryService {
                 .build();
 
         category = categoryRepository.save(category);
+        userService.incrementDataVersion(user.getId());
+        eventPublisher.publishEvent(new CategoriesChangedEvent(user.getId()));
         return mapToResponse(category);
     }
 
@@ -69,6 +76,8 @@ public class CategoryService {
         category.setColor(request.getColor());
 
         category = categoryRepository.save(category);
+        userService.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(userId));
         return mapToResponse(category);
     }
 
@@ -91,6 +100,20 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+        userService.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(userId));
+    }
+
+    private CategoryResponse mapToResponse(CategoryCache.CachedCategory category) {
+        return CategoryResponse.builder()
+                .id(category.id())
+                .name(category.name())
+                .type(category.type())
+                .icon(category.icon())
+                .color(category.color())
+                .isSystem(category.isSystem())
+                .createdAt(category.createdAt())
+                .build();
     }
 
     private CategoryResponse mapToResponse(Category category) {
@@ -0,0 +1,190 @@
+package com.finance.manager.service;
+
+import com.finance.manager.cache.CategoryCache;
+import com.finance.manager.dto.transaction.CreateTransactionRequest;
+import com.finance.manager.dto.transaction.CsvImportResponse;
+import com.finance.manager.dto.transaction.ImportRowError;
+import com.finance.manager.exception.ValidationException;
+import com.finance.manager.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Imports an uploaded CSV file of any size. The file is read one row at a time, invalid rows are
+ * reported and skipped, and valid rows are committed in chunks so only one chunk is ever held in memory.
+ */
+@Slf4j
+@Service
+public class CsvImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final TransactionImportService transactionImportService;
+    private final AccountRepository accountRepository;
+    private final CategoryCache categoryCache;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultChunkSize;
+    private final int maxChunkSize;
+
+    public CsvImportService(TransactionImportService transactionImportService,
+                            AccountRepository accountRepository,
+                            CategoryCache categoryCache,
+                            UserService userService,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${application.import.chunk-size}") int defaultChunkSize,
+                            @Value("${application.import.max-batch-rows}") int maxChunkSize) {
+        this.transactionImportService = transactionImportService;
+        this.accountRepository = accountRepository;
+        this.categoryCache = categoryCache;
+        this.userService = userService;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultChunkSize = defaultChunkSize;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public CsvImportResponse importFile(MultipartFile file, Integer chunkSize) {
+        if (file.isEmpty()) {
+            throw new ValidationException("File is empty");
+        }
+        UUID userId = userService.getCurrentUserId();
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            return importCsv(userId, reader, resolveChunkSize(chunkSize), null, progress -> {
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    int resolveChunkSize(Integer chunkSize) {
+        if (chunkSize == null) {
+            return defaultChunkSize;
+        }
+        return Math.max(1, Math.min(chunkSize, maxChunkSize));
+    }
+
+    /**
+     * Runs the import for the given user. The listener is called inside each chunk's transaction,
+     * after its rows are written, with the totals as they will be once that chunk commits.
+     * When resuming, the rows counted in {@code resumeFrom} are skipped and its totals carried forward.
+     */
+    CsvImportResponse importCsv(UUID userId, Reader source, int chunkSize,
+                                CsvImportResponse resumeFrom, ChunkListener listener) {
+        Tally tally = new Tally(resumeFrom);
+        long skipRows = tally.processedRows;
+        Map<UUID, Boolean> ownedAccounts = new HashMap<>();
+        List<CreateTransactionRequest> chunk = new ArrayList<>(chunkSize);
+
+        try (TransactionCsvReader reader = new TransactionCsvReader(source)) {
+            while (true) {
+                CreateTransactionRequest request;
+                try {
+                    request = reader.next();
+                } catch (ValidationException ex) {
+                    if (reader.getRowNumber() > skipRows) {
+                        tally.fail(reader.getRowNumber(), ex.getMessage());
+                    }
+                    continue;
+                }
+                if (request == null) {
+                    break;
+                }
+                if (reader.getRowNumber() <= skipRows) {
+                    continue;
+                }
+                tally.processedRows = reader.getRowNumber();
+
+                String error = transactionImportService.validate(request);
+                if (error == null && !ownedAccounts.computeIfAbsent(request.getAccountId(),
+                        id -> accountRepository.existsByIdAndUserId(id, userId))) {
+                    error = "Account not found with id: " + request.getAccountId();
+                }
+                if (error == null && categoryCache.findAvailable(userId, request.getCategoryId()).isEmpty()) {
+                    error = "Category not found with id: " + request.getCategoryId();
+                }
+                if (error != null) {
+                    tally.fail(reader.getRowNumber(), error);
+                    continue;
+                }
+
+                chunk.add(request);
+                if (chunk.size() == chunkSize) {
+                    commitChunk(userId, chunk, tally, listener);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        commitChunk(userId, chunk, tally, listener);
+        return tally.toResponse(0);
+    }
+
+    private void commitChunk(UUID userId, List<CreateTransactionRequest> chunk, Tally tally, ChunkListener listener) {
+        int size = chunk.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionImportService.importValidated(userId, chunk);
+            listener.onChunk(tally.toResponse(size));
+        });
+        tally.importedCount += size;
+        chunk.clear();
+        log.debug("Imported {} rows for user {} ({} processed, {} failed)",
+                tally.importedCount, userId, tally.processedRows, tally.failedCount);
+    }
+
+    @FunctionalInterface
+    interface ChunkListener {
+        void onChunk(CsvImportResponse progress);
+    }
+
+    private static final class Tally {
+
+        private long processedRows;
+        private long importedCount;
+        private long failedCount;
+        private final List<ImportRowError> errors = new ArrayList<>();
+
+        private Tally(CsvImportResponse resumeFrom) {
+            if (resumeFrom != null) {
+                processedRows = resumeFrom.getProcessedRows();
+                importedCount = resumeFrom.getImportedCount();
+                failedCount = resumeFrom.getFailedCount();
+                errors.addAll(resumeFrom.getErrors());
+            }
+        }
+
+        private void fail(long row, String message) {
+            processedRows = row;
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ImportRowError.builder().row(row).message(message).build());
+            }
+        }
+
+        private CsvImportResponse toResponse(int pendingRows) {
+            return CsvImportResponse.builder()
+                    .processedRows(processedRows)
+                    .importedCount(importedCount + pendingRows)
+                    .failedCount(failedCount)
+                    .errors(List.copyOf(errors))
+                    .errorsTruncated(failedCount > errors.size())
+                    .build();
+        }
+
+    }
+
+}
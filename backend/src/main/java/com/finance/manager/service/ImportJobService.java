@@ -0,0 +1,318 @@
+package com.finance.manager.service;
+
+import com.finance.manager.dto.importjob.ImportJobResponse;
+import com.finance.manager.dto.transaction.CsvImportResponse;
+import com.finance.manager.entity.ImportJob;
+import com.finance.manager.entity.ImportJobStatus;
+import com.finance.manager.exception.ResourceNotFoundException;
+import com.finance.manager.exception.TooManyRequestsException;
+import com.finance.manager.exception.ValidationException;
+import com.finance.manager.repository.ImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs CSV imports in the background. The upload is stored on disk and a job row tracks progress;
+ * each chunk of transactions commits together with the job's counters, so a job interrupted by a
+ * restart resumes after the last committed chunk without duplicating rows.
+ * <p>
+ * A job is owned by the instance holding its lease, which is renewed with every chunk and by a
+ * heartbeat while the job is queued. A restarted instance resumes its own jobs, and every instance
+ * periodically takes over unfinished jobs whose lease has expired; a chunk whose owner lost the
+ * lease rolls back.
+ * With instance-local storage a taken-over job fails because its file is missing, so use shared
+ * storage when jobs should survive the loss of an instance.
+ */
+@Slf4j
+@Service
+public class ImportJobService implements DisposableBean {
+
+    private static final Set<ImportJobStatus> UNFINISHED = EnumSet.of(ImportJobStatus.PENDING, ImportJobStatus.RUNNING);
+
+    private final ImportJobRepository importJobRepository;
+    private final CsvImportService csvImportService;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+    private final Path storageDir;
+    private final String instanceId;
+    private final long leaseSeconds;
+    private final ThreadPoolExecutor executor;
+    /** Jobs queued or running on this instance, so a claim pass does not submit them twice. */
+    private final Set<UUID> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public ImportJobService(ImportJobRepository importJobRepository,
+                            CsvImportService csvImportService,
+                            UserService userService,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${application.import.storage-dir}") String storageDir,
+                            @Value("${application.import.workers}") int workers,
+                            @Value("${application.import.queue-capacity}") int queueCapacity,
+                            @Value("${application.import.instance-id}") String instanceId,
+                            @Value("${application.import.lease-duration}") Duration leaseDuration) throws IOException {
+        this.importJobRepository = importJobRepository;
+        this.csvImportService = csvImportService;
+        this.userService = userService;
+        this.transactionTemplate = transactionTemplate;
+        this.storageDir = Files.createDirectories(Path.of(storageDir));
+        this.instanceId = StringUtils.hasText(instanceId) ? instanceId : UUID.randomUUID().toString();
+        this.leaseSeconds = leaseDuration.toSeconds();
+        if (!StringUtils.hasText(instanceId)) {
+            log.warn("No import instance id configured; jobs left by a previous run resume only after their lease expires");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "import-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ImportJobResponse submit(MultipartFile file, Integer chunkSize) {
+        if (file.isEmpty()) {
+            throw new ValidationException("File is empty");
+        }
+
+        Path path = storageDir.resolve(UUID.randomUUID() + ".csv");
+        try {
+            file.transferTo(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .user(userService.getCurrentUserReference())
+                .status(ImportJobStatus.PENDING)
+                .fileName(file.getOriginalFilename())
+                .storagePath(path.toString())
+                .chunkSize(csvImportService.resolveChunkSize(chunkSize))
+                .ownerInstance(instanceId)
+                .build());
+
+        UUID jobId = job.getId();
+        activeJobs.add(jobId);
+        claim(jobId);
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException ex) {
+            activeJobs.remove(jobId);
+            importJobRepository.delete(job);
+            deleteQuietly(path);
+            throw new TooManyRequestsException("Too many imports in progress, please retry shortly");
+        }
+        return mapToResponse(job);
+    }
+
+    public ImportJobResponse getJob(UUID id) {
+        UUID userId = userService.getCurrentUserId();
+        ImportJob job = importJobRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job", "id", id));
+        return mapToResponse(job);
+    }
+
+    /**
+     * Resumes this instance's unfinished jobs at startup, then periodically takes over jobs whose
+     * owner stopped renewing the lease.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.import.claim-interval}",
+               initialDelayString = "${application.import.claim-interval}")
+    public void resumeUnfinishedJobs() {
+        for (ImportJob job : importJobRepository.findClaimable(instanceId)) {
+            UUID jobId = job.getId();
+            if (!activeJobs.add(jobId)) {
+                continue;
+            }
+            if (!claim(jobId)) {
+                activeJobs.remove(jobId);
+                continue;
+            }
+            try {
+                executor.execute(() -> run(jobId));
+                log.info("Resuming import job {} after {} processed rows", jobId, job.getProcessedRows());
+            } catch (RejectedExecutionException ex) {
+                activeJobs.remove(jobId);
+                // Without the lease, any instance with room in its queue can pick the job up
+                transactionTemplate.executeWithoutResult(status -> importJobRepository.release(jobId, instanceId));
+                log.warn("Import queue is full; released job {} for the next claim pass", jobId);
+            }
+        }
+    }
+
+    /**
+     * Keeps the leases of this instance's queued and running jobs alive between chunks.
+     */
+    @Scheduled(fixedDelayString = "${application.import.lease-renewal-interval}")
+    public void renewLeases() {
+        transactionTemplate.executeWithoutResult(status -> importJobRepository.renewLeases(instanceId, leaseSeconds));
+    }
+
+    private boolean claim(UUID jobId) {
+        Integer claimed = transactionTemplate.execute(status -> importJobRepository.claim(jobId, instanceId, leaseSeconds));
+        return claimed != null && claimed == 1;
+    }
+
+    private void run(UUID jobId) {
+        try {
+            process(jobId);
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    private void process(UUID jobId) {
+        ImportJob job = transactionTemplate.execute(status -> {
+            if (importJobRepository.claim(jobId, instanceId, leaseSeconds) == 0) {
+                log.info("Import job {} is owned by another instance", jobId);
+                return null;
+            }
+            ImportJob current = importJobRepository.findById(jobId).orElse(null);
+            if (current == null || !UNFINISHED.contains(current.getStatus())) {
+                return null;
+            }
+            current.setStatus(ImportJobStatus.RUNNING);
+            if (current.getStartedAt() == null) {
+                current.setStartedAt(LocalDateTime.now());
+            }
+            return current;
+        });
+        if (job == null) {
+            return;
+        }
+
+        Path path = Path.of(job.getStoragePath());
+        CsvImportResponse resumeFrom = CsvImportResponse.builder()
+                .processedRows(job.getProcessedRows())
+                .importedCount(job.getImportedCount())
+                .failedCount(job.getFailedCount())
+                .errors(job.getErrors())
+                .build();
+
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            CsvImportResponse result = csvImportService.importCsv(
+                    job.getUser().getId(), reader, job.getChunkSize(), resumeFrom,
+                    progress -> recordProgress(jobId, progress));
+            finish(jobId, ImportJobStatus.COMPLETED, result, null);
+        } catch (LeaseLostException ex) {
+            log.warn("Import job {} was taken over by another instance; stopping here", jobId);
+            return;
+        } catch (IOException | RuntimeException ex) {
+            if (executor.isShutdown()) {
+                // Interrupted by shutdown; the job stays RUNNING and resumes from its last chunk
+                log.info("Import job {} interrupted by shutdown", jobId);
+                return;
+            }
+            log.warn("Import job {} failed: {}", jobId, ex.getMessage());
+            finish(jobId, ImportJobStatus.FAILED, null, ex.getMessage());
+        }
+        deleteQuietly(path);
+    }
+
+    /**
+     * Runs inside the chunk's transaction; losing the lease rolls the chunk back.
+     */
+    private void recordProgress(UUID jobId, CsvImportResponse progress) {
+        if (importJobRepository.renewLease(jobId, instanceId, leaseSeconds) == 0) {
+            throw new LeaseLostException();
+        }
+        applyProgress(importJobRepository.findById(jobId).orElseThrow(), progress);
+    }
+
+    private void finish(UUID jobId, ImportJobStatus status, CsvImportResponse result, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (importJobRepository.renewLease(jobId, instanceId, leaseSeconds) == 0) {
+                log.warn("Import job {} is no longer owned by this instance; not recording its outcome", jobId);
+                return;
+            }
+            importJobRepository.findById(jobId).ifPresent(job -> {
+                if (result != null) {
+                    applyProgress(job, result);
+                }
+                job.setStatus(status);
+                job.setErrorMessage(errorMessage);
+                job.setCompletedAt(LocalDateTime.now());
+            });
+        });
+    }
+
+    private void applyProgress(ImportJob job, CsvImportResponse progress) {
+        job.setProcessedRows(progress.getProcessedRows());
+        job.setImportedCount(progress.getImportedCount());
+        job.setFailedCount(progress.getFailedCount());
+        job.setErrors(new ArrayList<>(progress.getErrors()));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Could not delete import file {}", path, ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private ImportJobResponse mapToResponse(ImportJob job) {
+        Double rowsPerSecond = null;
+        if (job.getStartedAt() != null) {
+            LocalDateTime end = job.getCompletedAt() != null ? job.getCompletedAt() : LocalDateTime.now();
+            long millis = Duration.between(job.getStartedAt(), end).toMillis();
+            rowsPerSecond = millis > 0 ? job.getProcessedRows() * 1000.0 / millis : null;
+        }
+
+        return ImportJobResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .fileName(job.getFileName())
+                .processedRows(job.getProcessedRows())
+                .importedCount(job.getImportedCount())
+                .failedCount(job.getFailedCount())
+                .errors(job.getErrors())
+                .errorsTruncated(job.getFailedCount() > job.getErrors().size())
+                .errorMessage(job.getErrorMessage())
+                .rowsPerSecond(rowsPerSecond)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private static class LeaseLostException extends RuntimeException {
+    }
+
+}
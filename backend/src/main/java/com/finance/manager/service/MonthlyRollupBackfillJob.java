@@ -0,0 +1,25 @@
+package com.finance.manager.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the monthly rollup from raw transactions at startup. The initial backfill runs
+ * as a Liquibase changeset; enable this to resynchronise after manual data fixes.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.rollup.backfill-on-startup", havingValue = "true")
+public class MonthlyRollupBackfillJob implements ApplicationRunner {
+
+    private final MonthlyRollupService monthlyRollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        monthlyRollupService.rebuild();
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.finance.manager.service;
+
+import com.finance.manager.entity.Transaction;
+import com.finance.manager.entity.TransactionType;
+import com.finance.manager.repository.MonthlyCategoryTotalRepository;
+import com.finance.manager.repository.projection.CategoryTotalView;
+import com.finance.manager.repository.projection.MonthlyTypeTotalView;
+import com.finance.manager.repository.projection.TypeTotalView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the per-user monthly_category_totals rollup. Writes must run inside the
+ * caller's transaction so the rollup commits or rolls back together with the transaction row.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyRollupService {
+
+    private final MonthlyCategoryTotalRepository monthlyCategoryTotalRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(UUID userId, Transaction transaction) {
+        applyDelta(userId, transaction, transaction.getAmount(), 1L);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(UUID userId, Transaction transaction) {
+        applyDelta(userId, transaction, transaction.getAmount().negate(), -1L);
+    }
+
+    /**
+     * Adds many transactions with one upsert per (month, category, type) instead of one per row.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(UUID userId, Collection<Transaction> transactions) {
+        Map<RollupKey, BigDecimal> amounts = new HashMap<>();
+        Map<RollupKey, Long> counts = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            RollupKey key = new RollupKey(YearMonth.from(transaction.getTransactionDate()),
+                    transaction.getCategory().getId(), transaction.getType());
+            amounts.merge(key, transaction.getAmount(), BigDecimal::add);
+            counts.merge(key, 1L, Long::sum);
+        }
+
+        amounts.forEach((key, amount) -> monthlyCategoryTotalRepository.applyDelta(
+                userId,
+                key.yearMonth().getYear(),
+                key.yearMonth().getMonthValue(),
+                key.categoryId(),
+                key.type().name(),
+                amount,
+                counts.get(key)));
+    }
+
+    public List<TypeTotalView> getTypeTotals(UUID userId, YearMonth yearMonth) {
+        return monthlyCategoryTotalRepository.sumByType(
+                userId, yearMonth.getYear(), yearMonth.getMonthValue());
+    }
+
+    public List<CategoryTotalView> getCategoryTotals(UUID userId, TransactionType type, YearMonth from, YearMonth to) {
+        return monthlyCategoryTotalRepository.sumByCategory(userId, type, periodOf(from), periodOf(to));
+    }
+
+    public List<MonthlyTypeTotalView> getMonthlyTypeTotals(UUID userId, YearMonth from, YearMonth to) {
+        return monthlyCategoryTotalRepository.sumByMonthAndType(userId, periodOf(from), periodOf(to));
+    }
+
+    @Transactional
+    public void rebuild() {
+        int deleted = monthlyCategoryTotalRepository.deleteAllTotals();
+        int inserted = monthlyCategoryTotalRepository.backfillFromTransactions();
+        log.info("Rebuilt monthly category totals: removed {} rows, inserted {} rows", deleted, inserted);
+    }
+
+    private void applyDelta(UUID userId, Transaction transaction, BigDecimal amountDelta, Long countDelta) {
+        monthlyCategoryTotalRepository.applyDelta(
+                userId,
+                transaction.getTransactionDate().getYear(),
+                transaction.getTransactionDate().getMonthValue(),
+                transaction.getCategory().getId(),
+                transaction.getType().name(),
+                amountDelta,
+                countDelta);
+    }
+
+    private Integer periodOf(YearMonth yearMonth) {
+        return yearMonth.getYear() * 12 + yearMonth.getMonthValue();
+    }
+
+    private record RollupKey(YearMonth yearMonth, UUID categoryId, TransactionType type) {
+    }
+
+}
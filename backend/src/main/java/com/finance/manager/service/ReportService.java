@@ -1,11 +1,15 @@
 package com.finance.manager.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.finance.manager.cache.ReportCache;
 import com.finance.manager.dto.report.CategorySpendingResponse;
 import com.finance.manager.dto.report.MonthlyTrendResponse;
 import com.finance.manager.dto.report.SummaryResponse;
-import com.finance.manager.entity.Transaction;
 import com.finance.manager.entity.TransactionType;
 import com.finance.manager.repository.TransactionRepository;
+import com.finance.manager.repository.projection.CategoryTotalView;
+import com.finance.manager.repository.projection.MonthlyTypeTotalView;
+import com.finance.manager.repository.projection.TypeTotalView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,114 +18,116 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReportService {
 
+    private static final TypeReference<SummaryResponse> SUMMARY_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<CategorySpendingResponse>> CATEGORY_SPENDING_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<MonthlyTrendResponse>> TRENDS_TYPE = new TypeReference<>() {
+    };
+
     private final TransactionRepository transactionRepository;
+    private final MonthlyRollupService monthlyRollupService;
     private final UserService userService;
+    private final ReportCache reportCache;
 
     public SummaryResponse getSummary(Integer month, Integer year) {
         UUID userId = userService.getCurrentUserId();
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
+        ReportCache.ReportKey key = new ReportCache.ReportKey(userId, "summary", "", yearMonth, yearMonth);
+        return reportCache.get(key, SUMMARY_TYPE, () -> computeSummary(userId, yearMonth));
+    }
 
-        List<Transaction> transactions = transactionRepository.findByUserIdAndTypeAndDateRange(
-                userId, null, startDate, endDate);
+    public List<CategorySpendingResponse> getCategorySpending(
+            LocalDate startDate, LocalDate endDate, TransactionType type) {
+        UUID userId = userService.getCurrentUserId();
+        ReportCache.ReportKey key = new ReportCache.ReportKey(userId, "by-category",
+                startDate + "|" + endDate + "|" + type, YearMonth.from(startDate), YearMonth.from(endDate));
+        return reportCache.get(key, CATEGORY_SPENDING_TYPE, () -> computeCategorySpending(userId, startDate, endDate, type));
+    }
 
-        BigDecimal totalIncome = transactions.stream()
-                .filter(t -> t.getType() == TransactionType.INCOME)
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public List<MonthlyTrendResponse> getMonthlyTrends(Integer months) {
+        UUID userId = userService.getCurrentUserId();
 
-        BigDecimal totalExpense = transactions.stream()
-                .filter(t -> t.getType() == TransactionType.EXPENSE)
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth firstMonth = currentMonth.minusMonths(months - 1);
+        ReportCache.ReportKey key = new ReportCache.ReportKey(userId, "trends", "", firstMonth, currentMonth);
+        return reportCache.get(key, TRENDS_TYPE, () -> computeMonthlyTrends(userId, firstMonth, currentMonth));
+    }
+
+    private SummaryResponse computeSummary(UUID userId, YearMonth yearMonth) {
+        Map<TransactionType, BigDecimal> totals = new EnumMap<>(TransactionType.class);
+        for (TypeTotalView row : monthlyRollupService.getTypeTotals(userId, yearMonth)) {
+            totals.put(row.getType(), row.getTotal());
+        }
 
+        BigDecimal totalIncome = totals.getOrDefault(TransactionType.INCOME, BigDecimal.ZERO);
+        BigDecimal totalExpense = totals.getOrDefault(TransactionType.EXPENSE, BigDecimal.ZERO);
         BigDecimal netSavings = totalIncome.subtract(totalExpense);
 
         return SummaryResponse.builder()
                 .totalIncome(totalIncome)
                 .totalExpense(totalExpense)
                 .netSavings(netSavings)
-                .month(month)
-                .year(year)
+                .month(yearMonth.getMonthValue())
+                .year(yearMonth.getYear())
                 .build();
     }
 
-    public List<CategorySpendingResponse> getCategorySpending(
-            LocalDate startDate, LocalDate endDate, TransactionType type) {
-        UUID userId = userService.getCurrentUserId();
+    private List<CategorySpendingResponse> computeCategorySpending(
+            UUID userId, LocalDate startDate, LocalDate endDate, TransactionType type) {
+        // Whole-month ranges are answered from the rollup; partial months still aggregate raw rows
+        List<CategoryTotalView> categoryTotals = coversWholeMonths(startDate, endDate)
+                ? monthlyRollupService.getCategoryTotals(
+                        userId, type, YearMonth.from(startDate), YearMonth.from(endDate))
+                : transactionRepository.sumByCategoryAndDateRange(userId, type, startDate, endDate);
 
-        List<Transaction> transactions = transactionRepository.findByUserIdAndTypeAndDateRange(
-                userId, type, startDate, endDate);
-
-        BigDecimal total = transactions.stream()
-                .map(Transaction::getAmount)
+        BigDecimal total = categoryTotals.stream()
+                .map(CategoryTotalView::getTotal)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        Map<UUID, List<Transaction>> transactionsByCategory = transactions.stream()
-                .collect(Collectors.groupingBy(t -> t.getCategory().getId()));
-
         List<CategorySpendingResponse> categorySpending = new ArrayList<>();
 
-        for (Map.Entry<UUID, List<Transaction>> entry : transactionsByCategory.entrySet()) {
-            List<Transaction> categoryTransactions = entry.getValue();
-            Transaction firstTransaction = categoryTransactions.get(0);
-
-            BigDecimal categoryTotal = categoryTransactions.stream()
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
+        for (CategoryTotalView row : categoryTotals) {
             BigDecimal percentage = total.compareTo(BigDecimal.ZERO) > 0
-                    ? categoryTotal.divide(total, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
+                    ? row.getTotal().divide(total, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
                     : BigDecimal.ZERO;
 
             CategorySpendingResponse response = CategorySpendingResponse.builder()
-                    .categoryId(firstTransaction.getCategory().getId())
-                    .categoryName(firstTransaction.getCategory().getName())
-                    .categoryIcon(firstTransaction.getCategory().getIcon())
-                    .categoryColor(firstTransaction.getCategory().getColor())
-                    .amount(categoryTotal)
-                    .transactionCount((long) categoryTransactions.size())
+                    .categoryId(row.getCategoryId())
+                    .categoryName(row.getCategoryName())
+                    .categoryIcon(row.getCategoryIcon())
+                    .categoryColor(row.getCategoryColor())
+                    .amount(row.getTotal())
+                    .transactionCount(row.getTransactionCount())
                     .percentage(percentage)
                     .build();
 
             categorySpending.add(response);
         }
 
-        categorySpending.sort((a, b) -> b.getAmount().compareTo(a.getAmount()));
-
-        return categorySpending;
+        return List.copyOf(categorySpending);
     }
 
-    public List<MonthlyTrendResponse> getMonthlyTrends(Integer months) {
-        UUID userId = userService.getCurrentUserId();
-        List<MonthlyTrendResponse> trends = new ArrayList<>();
-
-        YearMonth currentMonth = YearMonth.now();
-
-        for (int i = months - 1; i >= 0; i--) {
-            YearMonth targetMonth = currentMonth.minusMonths(i);
-            LocalDate startDate = targetMonth.atDay(1);
-            LocalDate endDate = targetMonth.atEndOfMonth();
-
-            List<Transaction> transactions = transactionRepository.findByUserIdAndTypeAndDateRange(
-                    userId, null, startDate, endDate);
+    private List<MonthlyTrendResponse> computeMonthlyTrends(UUID userId, YearMonth firstMonth, YearMonth currentMonth) {
+        Map<YearMonth, Map<TransactionType, BigDecimal>> totalsByMonth = new HashMap<>();
+        for (MonthlyTypeTotalView row : monthlyRollupService.getMonthlyTypeTotals(userId, firstMonth, currentMonth)) {
+            totalsByMonth
+                    .computeIfAbsent(YearMonth.of(row.getPeriodYear(), row.getPeriodMonth()),
+                            key -> new EnumMap<>(TransactionType.class))
+                    .put(row.getType(), row.getTotal());
+        }
 
-            BigDecimal income = transactions.stream()
-                    .filter(t -> t.getType() == TransactionType.INCOME)
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<MonthlyTrendResponse> trends = new ArrayList<>();
 
-            BigDecimal expense = transactions.stream()
-                    .filter(t -> t.getType() == TransactionType.EXPENSE)
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        for (YearMonth targetMonth = firstMonth; !targetMonth.isAfter(currentMonth); targetMonth = targetMonth.plusMonths(1)) {
+            Map<TransactionType, BigDecimal> totals = totalsByMonth.getOrDefault(targetMonth, Map.of());
+            BigDecimal income = totals.getOrDefault(TransactionType.INCOME, BigDecimal.ZERO);
+            BigDecimal expense = totals.getOrDefault(TransactionType.EXPENSE, BigDecimal.ZERO);
 
             MonthlyTrendResponse trend = MonthlyTrendResponse.builder()
                     .month(targetMonth.getMonthValue())
@@ -134,7 +140,13 @@ public class ReportService {
             trends.add(trend);
         }
 
-        return trends;
+        return List.copyOf(trends);
+    }
+
+    private boolean coversWholeMonths(LocalDate startDate, LocalDate endDate) {
+        return startDate.getDayOfMonth() == 1
+                && endDate.equals(YearMonth.from(endDate).atEndOfMonth())
+                && !startDate.isAfter(endDate);
     }
 
 }
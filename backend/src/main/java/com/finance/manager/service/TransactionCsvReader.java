@@ -0,0 +1,171 @@
+package com.finance.manager.service;
+
+import com.finance.manager.dto.transaction.CreateTransactionRequest;
+import com.finance.manager.entity.TransactionType;
+import com.finance.manager.exception.ValidationException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads transactions from CSV one record at a time, so callers never hold the whole file in memory.
+ * The first record is a header naming the columns (accountId, categoryId, amount, type, description,
+ * transactionDate) in any order; names are matched ignoring case, spaces and underscores.
+ */
+public class TransactionCsvReader implements Closeable {
+
+    private static final String ACCOUNT_ID = "accountid";
+    private static final String CATEGORY_ID = "categoryid";
+    private static final String AMOUNT = "amount";
+    private static final String TYPE = "type";
+    private static final String DESCRIPTION = "description";
+    private static final String TRANSACTION_DATE = "transactiondate";
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of(ACCOUNT_ID, CATEGORY_ID, AMOUNT, TYPE, TRANSACTION_DATE);
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long rowNumber;
+
+    public TransactionCsvReader(Reader source) {
+        this.reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new ValidationException("CSV file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(normalize(header.get(i)), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new ValidationException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+    }
+
+    /**
+     * Returns the next row, or null at end of input. A row that cannot be parsed throws a
+     * {@link ValidationException}; {@link #getRowNumber()} then names that row and reading can continue.
+     */
+    public CreateTransactionRequest next() {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        rowNumber++;
+        return CreateTransactionRequest.builder()
+                .accountId(parse(record, ACCOUNT_ID, UUID::fromString))
+                .categoryId(parse(record, CATEGORY_ID, UUID::fromString))
+                .amount(parse(record, AMOUNT, BigDecimal::new))
+                .type(parse(record, TYPE, value -> TransactionType.valueOf(value.toUpperCase(Locale.ROOT))))
+                .description(parse(record, DESCRIPTION, value -> value))
+                .transactionDate(parse(record, TRANSACTION_DATE, LocalDate::parse))
+                .build();
+    }
+
+    /**
+     * Number of data rows read so far, starting at 1 for the row after the header.
+     */
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private <T> T parse(List<String> record, String column, ValueParser<T> parser) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        try {
+            return parser.parse(value);
+        } catch (RuntimeException ex) {
+            throw new ValidationException("Invalid " + column + " '" + value + "'");
+        }
+    }
+
+    /**
+     * Reads one RFC 4180 record: fields separated by commas, optionally quoted, with "" as an escaped
+     * quote and line breaks allowed inside quotes.
+     */
+    private List<String> readRecord() {
+        try {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.replaceAll("[\\s_\\-\\uFEFF]", "").toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    private interface ValueParser<T> {
+        T parse(String value);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.finance.manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.manager.dto.transaction.TransactionResponse;
+import com.finance.manager.entity.TransactionType;
+import com.finance.manager.repository.TransactionExportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Streams a user's transactions as CSV or NDJSON. Rows are written as they are read from the
+ * database cursor, so memory use does not grow with the size of the history.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER =
+            "id,transactionDate,type,amount,accountId,accountName,categoryId,categoryName,description";
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private final TransactionExportRepository transactionExportRepository;
+    private final UserService userService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Resolves the current user up front; the returned body runs later on an async request thread.
+     */
+    public StreamingResponseBody export(UUID accountId, UUID categoryId, TransactionType type,
+                                        LocalDate startDate, LocalDate endDate, Format format) {
+        UUID userId = userService.getCurrentUserId();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            readOnly.executeWithoutResult(status -> transactionExportRepository.forEachByFilters(
+                    userId, accountId, categoryId, type, startDate, endDate,
+                    row -> writeRow(writer, row, format)));
+            writer.flush();
+        };
+    }
+
+    private void writeRow(Writer writer, TransactionResponse row, Format format) {
+        try {
+            if (format == Format.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+            } else {
+                writer.write(String.join(",",
+                        row.getId().toString(),
+                        row.getTransactionDate().toString(),
+                        row.getType().name(),
+                        row.getAmount().toPlainString(),
+                        row.getAccountId().toString(),
+                        csvField(row.getAccountName()),
+                        row.getCategoryId().toString(),
+                        csvField(row.getCategoryName()),
+                        csvField(row.getDescription())));
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+}
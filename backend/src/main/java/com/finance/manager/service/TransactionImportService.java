@@ -0,0 +1,215 @@
+package com.finance.manager.service;
+
+import com.finance.manager.cache.CategoryCache;
+import com.finance.manager.dto.transaction.BatchImportResponse;
+import com.finance.manager.dto.transaction.CreateTransactionRequest;
+import com.finance.manager.entity.Transaction;
+import com.finance.manager.entity.TransactionType;
+import com.finance.manager.event.TransactionsChangedEvent;
+import com.finance.manager.exception.ResourceNotFoundException;
+import com.finance.manager.exception.ValidationException;
+import com.finance.manager.repository.AccountRepository;
+import com.finance.manager.repository.CategoryRepository;
+import com.finance.manager.repository.TransactionBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports many transactions at once. Ownership is checked once per distinct account and category,
+ * rows are inserted with JDBC batching, and each account balance and rollup bucket is adjusted once.
+ */
+@Service
+public class TransactionImportService {
+
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final UserService userService;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchRows;
+
+    public TransactionImportService(AccountRepository accountRepository,
+                                    CategoryRepository categoryRepository,
+                                    CategoryCache categoryCache,
+                                    TransactionBatchRepository transactionBatchRepository,
+                                    MonthlyRollupService monthlyRollupService,
+                                    BalanceSnapshotService balanceSnapshotService,
+                                    UserService userService,
+                                    Validator validator,
+                                    ApplicationEventPublisher eventPublisher,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${application.import.max-batch-rows}") int maxBatchRows) {
+        this.accountRepository = accountRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryCache = categoryCache;
+        this.transactionBatchRepository = transactionBatchRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.balanceSnapshotService = balanceSnapshotService;
+        this.userService = userService;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.maxBatchRows = maxBatchRows;
+    }
+
+    @Transactional
+    public BatchImportResponse importTransactions(List<CreateTransactionRequest> requests) {
+        return validateAndImport(requests);
+    }
+
+    /**
+     * Parses the whole CSV body before opening a transaction, so no connection is held while the upload is read.
+     */
+    public BatchImportResponse importCsv(Reader source) {
+        List<CreateTransactionRequest> requests = new ArrayList<>();
+        try (TransactionCsvReader reader = new TransactionCsvReader(source)) {
+            CreateTransactionRequest request;
+            while ((request = nextRow(reader)) != null) {
+                if (requests.size() == maxBatchRows) {
+                    throw new ValidationException("A batch may contain at most " + maxBatchRows + " transactions");
+                }
+                requests.add(request);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return transactionTemplate.execute(status -> validateAndImport(requests));
+    }
+
+    private CreateTransactionRequest nextRow(TransactionCsvReader reader) {
+        try {
+            return reader.next();
+        } catch (ValidationException ex) {
+            throw new ValidationException("Row " + reader.getRowNumber() + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns the first bean validation message for the request, or null when it is valid.
+     */
+    String validate(CreateTransactionRequest request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Checks ownership of every referenced account and category, then writes the rows.
+     * Expects rows that already passed {@link #validate}; must run inside a transaction.
+     */
+    BatchImportResponse importValidated(UUID userId, List<CreateTransactionRequest> requests) {
+        if (requests.isEmpty()) {
+            return BatchImportResponse.builder().importedCount(0).balanceChanges(Map.of()).build();
+        }
+        verifyOwnership(userId, requests);
+
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        // Sorted, so concurrent imports lock shared accounts in the same order
+        Map<UUID, BigDecimal> balanceChanges = new TreeMap<>();
+        Map<UUID, Map<LocalDate, BigDecimal>> snapshotChanges = new HashMap<>();
+        Set<YearMonth> months = new HashSet<>();
+        for (CreateTransactionRequest request : requests) {
+            transactions.add(Transaction.builder()
+                    .account(accountRepository.getReferenceById(request.getAccountId()))
+                    .category(categoryRepository.getReferenceById(request.getCategoryId()))
+                    .amount(request.getAmount())
+                    .type(request.getType())
+                    .description(request.getDescription())
+                    .transactionDate(request.getTransactionDate())
+                    .build());
+
+            BigDecimal signedAmount = request.getType() == TransactionType.INCOME
+                    ? request.getAmount()
+                    : request.getAmount().negate();
+            balanceChanges.merge(request.getAccountId(), signedAmount, BigDecimal::add);
+            snapshotChanges.computeIfAbsent(request.getAccountId(), id -> new HashMap<>())
+                    .merge(request.getTransactionDate(), signedAmount, BigDecimal::add);
+            months.add(YearMonth.from(request.getTransactionDate()));
+        }
+
+        transactionBatchRepository.insertAll(transactions);
+        balanceChanges.forEach((accountId, delta) -> {
+            if (delta.signum() != 0) {
+                accountRepository.adjustBalance(accountId, delta);
+            } else {
+                // Snapshots may still shift between dates; hold the lock a snapshot would wait on
+                accountRepository.lockById(accountId);
+            }
+            balanceSnapshotService.applyDeltas(accountId, snapshotChanges.get(accountId));
+        });
+        monthlyRollupService.addAll(userId, transactions);
+        userService.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(userId, months));
+
+        return BatchImportResponse.builder()
+                .importedCount(transactions.size())
+                .balanceChanges(balanceChanges)
+                .build();
+    }
+
+    private BatchImportResponse validateAndImport(List<CreateTransactionRequest> requests) {
+        if (requests.size() > maxBatchRows) {
+            throw new ValidationException("A batch may contain at most " + maxBatchRows + " transactions");
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                throw new ValidationException("Row " + (i + 1) + ": " + error);
+            }
+        }
+
+        UUID userId = userService.getCurrentUserId();
+        return importValidated(userId, requests);
+    }
+
+    private void verifyOwnership(UUID userId, List<CreateTransactionRequest> requests) {
+        Set<UUID> accountIds = requests.stream()
+                .map(CreateTransactionRequest::getAccountId)
+                .collect(Collectors.toSet());
+        Set<UUID> ownedAccountIds = new HashSet<>(accountRepository.findOwnedIds(accountIds, userId));
+        accountIds.stream()
+                .filter(id -> !ownedAccountIds.contains(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new ResourceNotFoundException("Account", "id", id);
+                });
+
+        requests.stream()
+                .map(CreateTransactionRequest::getCategoryId)
+                .distinct()
+                .filter(id -> categoryCache.findAvailable(userId, id).isEmpty())
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new ResourceNotFoundException("Category", "id", id);
+                });
+    }
+
+}
@@ -1,72 +1,132 @@
 package com.finance.manager.service;
 
+import com.finance.manager.cache.CategoryCache;
+import com.finance.manager.cache.TransactionCountCache;
+import com.finance.manager.dto.CursorPageResponse;
 import com.finance.manager.dto.transaction.CreateTransactionRequest;
+import com.finance.manager.dto.transaction.TransactionCursor;
 import com.finance.manager.dto.transaction.TransactionResponse;
 import com.finance.manager.dto.transaction.UpdateTransactionRequest;
 import com.finance.manager.entity.*;
+import com.finance.manager.event.TransactionsChangedEvent;
 import com.finance.manager.exception.ResourceNotFoundException;
 import com.finance.manager.exception.UnauthorizedException;
+import com.finance.manager.exception.ValidationException;
 import com.finance.manager.repository.AccountRepository;
 import com.finance.manager.repository.CategoryRepository;
 import com.finance.manager.repository.TransactionRepository;
+import com.finance.manager.repository.TransactionSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final Sort KEYSET_SORT = Sort.by(
+            Sort.Order.desc("transactionDate"),
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id"));
+
+    /**
+     * Sort properties accepted by the listing, mapped to their entity paths; request names for
+     * associations are translated, anything else is rejected rather than failing in the query.
+     */
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "transactionDate", "transactionDate",
+            "createdAt", "createdAt",
+            "updatedAt", "updatedAt",
+            "amount", "amount",
+            "type", "type",
+            "description", "description",
+            "id", "id",
+            "accountId", "account.id",
+            "categoryId", "category.id");
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
     private final UserService userService;
+    private final MonthlyRollupService monthlyRollupService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final TransactionCountCache transactionCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<TransactionResponse> getAllTransactions(
             UUID accountId, UUID categoryId, TransactionType type,
-            LocalDate startDate, LocalDate endDate, Pageable pageable) {
+            LocalDate startDate, LocalDate endDate, Pageable pageable, boolean exactCount) {
         UUID userId = userService.getCurrentUserId();
+        Specification<Transaction> spec =
+                TransactionSpecifications.filter(userId, accountId, categoryId, type, startDate, endDate);
+        Sort sort = mapSort(pageable.getSort());
 
-        // Map Java field names to database column names for native queries
-        Pageable mappedPageable = pageable;
-        if (pageable.getSort().isSorted()) {
-            org.springframework.data.domain.Sort mappedSort = org.springframework.data.domain.Sort.by(
-                pageable.getSort().stream()
-                    .map(order -> {
-                        String property = order.getProperty();
-                        // Map entity field names to database column names
-                        String columnName = switch (property) {
-                            case "transactionDate" -> "transaction_date";
-                            case "createdAt" -> "created_at";
-                            case "updatedAt" -> "updated_at";
-                            case "accountId" -> "account_id";
-                            case "categoryId" -> "category_id";
-                            default -> property;
-                        };
-                        return order.isAscending()
-                            ? org.springframework.data.domain.Sort.Order.asc(columnName)
-                            : org.springframework.data.domain.Sort.Order.desc(columnName);
-                    })
-                    .toList()
-            );
-            mappedPageable = org.springframework.data.domain.PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                mappedSort
-            );
+        if (exactCount) {
+            Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+            return transactionRepository.findAll(spec, sortedPageable)
+                    .map(this::mapToResponse);
         }
 
-        return transactionRepository.findByFilters(userId, accountId, categoryId, type, startDate, endDate, mappedPageable)
+        // Page content is fetched without a count; the total comes from the per-user count cache
+        List<Transaction> content = transactionRepository.findSlice(
+                spec, sort, pageable.getOffset(), pageable.getPageSize());
+        TransactionCountCache.CountKey countKey =
+                new TransactionCountCache.CountKey(userId, accountId, categoryId, type, startDate, endDate);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                        () -> transactionCountCache.get(countKey, () -> transactionRepository.count(spec)))
                 .map(this::mapToResponse);
     }
 
+    public CursorPageResponse<TransactionResponse> getTransactionsByCursor(
+            UUID accountId, UUID categoryId, TransactionType type,
+            LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        UUID userId = userService.getCurrentUserId();
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        Specification<Transaction> spec =
+                TransactionSpecifications.filter(userId, accountId, categoryId, type, startDate, endDate);
+        if (StringUtils.hasText(cursor)) {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            spec = spec.and(TransactionSpecifications.before(
+                    position.getTransactionDate(), position.getCreatedAt(), position.getId()));
+        }
+
+        // Fetch one extra row to learn whether another page exists without counting
+        List<Transaction> rows = transactionRepository.findSlice(spec, KEYSET_SORT, 0, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Transaction> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPageResponse.<TransactionResponse>builder()
+                .content(content.stream().map(this::mapToResponse).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TransactionCursor.of(content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+
     public TransactionResponse getTransactionById(UUID id) {
         UUID userId = userService.getCurrentUserId();
         Transaction transaction = transactionRepository.findByIdAndUserId(id, userId)
@@ -81,12 +141,11 @@ public class TransactionService {
         Account account = accountRepository.findByIdAndUserId(request.getAccountId(), userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Account", "id", request.getAccountId()));
 
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
+        CategoryCache.CachedCategory category = findAvailableCategory(userId, request.getCategoryId());
 
         Transaction transaction = Transaction.builder()
                 .account(account)
-                .category(category)
+                .category(categoryRepository.getReferenceById(category.id()))
                 .amount(request.getAmount())
                 .type(request.getType())
                 .description(request.getDescription())
@@ -95,9 +154,13 @@ public class TransactionService {
 
         transaction = transactionRepository.save(transaction);
 
-        updateAccountBalance(account, request.getAmount(), request.getType(), true);
+        BigDecimal signedAmount = signedAmount(request.getAmount(), request.getType());
+        adjustAccountBalance(account.getId(), signedAmount);
+        balanceSnapshotService.applyDelta(account.getId(), transaction.getTransactionDate(), signedAmount);
+        monthlyRollupService.add(userId, transaction);
+        publishChange(userId, transaction.getTransactionDate());
 
-        return mapToResponse(transaction);
+        return mapToResponse(transaction, category.name());
     }
 
     @Transactional
@@ -107,15 +170,24 @@ public class TransactionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", id));
 
         Account account = transaction.getAccount();
-        BigDecimal oldAmount = transaction.getAmount();
-        TransactionType oldType = transaction.getType();
+        BigDecimal oldSignedAmount = signedAmount(transaction.getAmount(), transaction.getType());
+        BigDecimal newSignedAmount = signedAmount(request.getAmount(), request.getType());
+        LocalDate oldDate = transaction.getTransactionDate();
 
-        updateAccountBalance(account, oldAmount, oldType, false);
+        CategoryCache.CachedCategory category = findAvailableCategory(userId, request.getCategoryId());
 
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
+        // Lock the account row first, as delete does, so writers on one account queue there
+        // instead of deadlocking on the transaction or rollup rows. Apply only the net change.
+        BigDecimal netChange = newSignedAmount.subtract(oldSignedAmount);
+        if (netChange.signum() != 0) {
+            accountRepository.adjustBalance(account.getId(), netChange);
+        } else {
+            // Snapshots still shift when the date moves; hold the lock a snapshot would wait on
+            accountRepository.lockById(account.getId());
+        }
+        monthlyRollupService.remove(userId, transaction);
 
-        transaction.setCategory(category);
+        transaction.setCategory(categoryRepository.getReferenceById(category.id()));
         transaction.setAmount(request.getAmount());
         transaction.setType(request.getType());
         transaction.setDescription(request.getDescription());
@@ -123,9 +195,12 @@ public class TransactionService {
 
         transaction = transactionRepository.save(transaction);
 
-        updateAccountBalance(account, request.getAmount(), request.getType(), true);
+        balanceSnapshotService.applyDelta(account.getId(), oldDate, oldSignedAmount.negate());
+        balanceSnapshotService.applyDelta(account.getId(), transaction.getTransactionDate(), newSignedAmount);
+        monthlyRollupService.add(userId, transaction);
+        publishChange(userId, oldDate, transaction.getTransactionDate());
 
-        return mapToResponse(transaction);
+        return mapToResponse(transaction, category.name());
     }
 
     @Transactional
@@ -134,34 +209,68 @@ public class TransactionService {
         Transaction transaction = transactionRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", id));
 
+        // Lock the account row before the transaction row, in the same order as update
+        BigDecimal signedAmount = signedAmount(transaction.getAmount(), transaction.getType());
+        adjustAccountBalance(transaction.getAccount().getId(), signedAmount.negate());
+
         transaction.setDeletedAt(LocalDateTime.now());
         transactionRepository.save(transaction);
 
-        Account account = transaction.getAccount();
-        updateAccountBalance(account, transaction.getAmount(), transaction.getType(), false);
+        balanceSnapshotService.applyDelta(
+                transaction.getAccount().getId(), transaction.getTransactionDate(), signedAmount.negate());
+        monthlyRollupService.remove(userId, transaction);
+        publishChange(userId, transaction.getTransactionDate());
     }
 
-    private void updateAccountBalance(Account account, BigDecimal amount, TransactionType type, boolean add) {
-        BigDecimal currentBalance = account.getBalance();
-        BigDecimal newBalance;
+    private Sort mapSort(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> {
+                    String property = SORT_PROPERTIES.get(order.getProperty());
+                    if (property == null) {
+                        throw new ValidationException("Cannot sort transactions by '" + order.getProperty() + "'");
+                    }
+                    return order.withProperty(property);
+                })
+                .toList());
+    }
 
-        if (type == TransactionType.INCOME) {
-            newBalance = add ? currentBalance.add(amount) : currentBalance.subtract(amount);
-        } else {
-            newBalance = add ? currentBalance.subtract(amount) : currentBalance.add(amount);
+    private CategoryCache.CachedCategory findAvailableCategory(UUID userId, UUID categoryId) {
+        return categoryCache.findAvailable(userId, categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
+    }
+
+    private void publishChange(UUID userId, LocalDate... dates) {
+        Set<YearMonth> months = Arrays.stream(dates)
+                .map(YearMonth::from)
+                .collect(Collectors.toSet());
+        userService.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(userId, months));
+    }
+
+    /**
+     * Applies the delta with a single UPDATE so concurrent writers on the same account never lose an update.
+     */
+    private void adjustAccountBalance(UUID accountId, BigDecimal delta) {
+        if (delta.signum() != 0) {
+            accountRepository.adjustBalance(accountId, delta);
         }
+    }
 
-        account.setBalance(newBalance);
-        accountRepository.save(account);
+    private BigDecimal signedAmount(BigDecimal amount, TransactionType type) {
+        return type == TransactionType.INCOME ? amount : amount.negate();
     }
 
     private TransactionResponse mapToResponse(Transaction transaction) {
+        return mapToResponse(transaction, transaction.getCategory().getName());
+    }
+
+    private TransactionResponse mapToResponse(Transaction transaction, String categoryName) {
         return TransactionResponse.builder()
                 .id(transaction.getId())
                 .accountId(transaction.getAccount().getId())
                 .accountName(transaction.getAccount().getName())
                 .categoryId(transaction.getCategory().getId())
-                .categoryName(transaction.getCategory().getName())
+                .categoryName(categoryName)
                 .amount(transaction.getAmount())
                 .type(transaction.getType())
                 .description(transaction.getDescription())
@@ -1,17 +1,23 @@
 package com.finance.manager.service;
 
+import com.finance.manager.cache.DataVersionCache;
+import com.finance.manager.dto.sync.DataVersionResponse;
 import com.finance.manager.dto.user.ChangePasswordRequest;
 import com.finance.manager.dto.user.UpdateUserRequest;
 import com.finance.manager.dto.user.UserResponse;
 import com.finance.manager.entity.User;
+import com.finance.manager.event.UserChangedEvent;
 import com.finance.manager.exception.ResourceNotFoundException;
 import com.finance.manager.exception.UnauthorizedException;
 import com.finance.manager.repository.UserRepository;
+import com.finance.manager.security.AuthenticatedUser;
+import com.finance.manager.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
@@ -21,17 +27,50 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final DataVersionCache dataVersionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public User getCurrentUser() {
+        UUID userId = getCurrentUserId();
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+    }
+
+    /**
+     * Returns an uninitialised reference to the current user for use as an association,
+     * without querying the users table.
+     */
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserId());
+    }
+
+    public UUID getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+
         String email = authentication.getName();
         return userRepository.findByEmail(email)
+                .map(User::getId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
     }
 
-    public UUID getCurrentUserId() {
-        return getCurrentUser().getId();
+    public DataVersionResponse getCurrentDataVersion() {
+        UUID userId = getCurrentUserId();
+        long version = dataVersionCache.get(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        return DataVersionResponse.builder().version(version).build();
+    }
+
+    /**
+     * Marks the user's data as changed. Runs in the caller's transaction, so the new version
+     * becomes visible together with the write; the write's change event drops cached versions.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void incrementDataVersion(UUID userId) {
+        userRepository.incrementDataVersion(userId);
     }
 
     public UserResponse getCurrentUserProfile() {
@@ -44,6 +83,7 @@ public class UserService {
         User user = getCurrentUser();
         user.setName(request.getName());
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
         return mapToResponse(user);
     }
 
@@ -51,12 +91,15 @@ public class UserService {
     public void changePassword(ChangePasswordRequest request) {
         User user = getCurrentUser();
 
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.getCurrentPassword(), user.getPasswordHash())) {
             throw new UnauthorizedException("Current password is incorrect");
         }
 
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        // Bumping the token version revokes every JWT issued before the password change
+        user.setPasswordHash(passwordHashingService.encode(request.getNewPassword()));
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
     }
 
     private UserResponse mapToResponse(User user) {
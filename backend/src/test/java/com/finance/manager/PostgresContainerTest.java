@@ -0,0 +1,20 @@
+package com.finance.manager;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base for tests that need the real schema: one PostgreSQL container shared by every test class
+ * in the run and migrated by Liquibase on context start, so plans, locking and native SQL behave
+ * as in production. The container is stopped when the JVM exits.
+ */
+public abstract class PostgresContainerTest {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+}
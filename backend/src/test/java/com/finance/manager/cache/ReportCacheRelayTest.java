@@ -0,0 +1,133 @@
+package com.finance.manager.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.manager.event.TransactionsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Two instances, each with its own report near-cache and relay, sharing the in-memory tier and
+ * bus the way instances share Redis.
+ */
+class ReportCacheRelayTest {
+
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {
+    };
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    private final UUID userId = UUID.randomUUID();
+    private final ReportCache.ReportKey key =
+            new ReportCache.ReportKey(userId, "trends", "", JANUARY, MARCH);
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        SharedCacheTier sharedTier = new InMemorySharedCacheTier();
+        CacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        nodeA = new Node(sharedTier, bus);
+        nodeB = new Node(sharedTier, bus);
+    }
+
+    @Test
+    void secondInstanceIsServedFromTheSharedTier() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(nodeA.get(key, loads, "v1")).containsExactly("v1");
+        assertThat(nodeB.get(key, loads, "v2")).containsExactly("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void writeOnOneInstanceRefreshesTheOther() {
+        AtomicInteger loads = new AtomicInteger();
+        nodeA.get(key, loads, "v1");
+        nodeB.get(key, loads, "v1");
+
+        nodeA.commitTransactions(Set.of(JANUARY));
+
+        assertThat(nodeB.get(key, loads, "v2")).containsExactly("v2");
+        assertThat(nodeA.get(key, loads, "v3")).containsExactly("v2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void writeOutsideTheReportedMonthsKeepsTheReport() {
+        AtomicInteger loads = new AtomicInteger();
+        nodeA.get(key, loads, "v1");
+        nodeB.get(key, loads, "v1");
+
+        nodeA.commitTransactions(Set.of(YearMonth.of(2024, 5)));
+
+        assertThat(nodeA.get(key, loads, "v2")).containsExactly("v1");
+        assertThat(nodeB.get(key, loads, "v2")).containsExactly("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadRacingAWriteOnAnotherInstanceIsNotKept() {
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> stale = nodeB.reportCache.get(key, TYPE, () -> {
+            loads.incrementAndGet();
+            // The write commits on the other instance while this load is still reading
+            nodeA.commitTransactions(Set.of(JANUARY));
+            return List.of("stale");
+        });
+        assertThat(stale).containsExactly("stale");
+
+        assertThat(nodeB.get(key, loads, "fresh")).containsExactly("fresh");
+        assertThat(nodeA.get(key, loads, "other")).containsExactly("fresh");
+        assertThat(loads).hasValue(2);
+    }
+
+    private final class Node {
+
+        private final ReportCache reportCache;
+        private final CacheInvalidationRelay relay;
+
+        Node(SharedCacheTier sharedTier, CacheInvalidationBus bus) {
+            this.reportCache = new ReportCache(new SimpleMeterRegistry(), sharedTier, new ObjectMapper(),
+                    100, Duration.ofMinutes(30));
+            this.relay = new CacheInvalidationRelay(bus,
+                    mock(TransactionCountCache.class),
+                    mock(CategoryCache.class),
+                    reportCache,
+                    mock(UserLookupCache.class),
+                    mock(TokenVersionCache.class),
+                    mock(DataVersionCache.class));
+        }
+
+        List<String> get(ReportCache.ReportKey key, AtomicInteger loads, String value) {
+            return reportCache.get(key, TYPE, () -> {
+                loads.incrementAndGet();
+                return List.of(value);
+            });
+        }
+
+        /**
+         * Runs the after-commit listeners in the order Spring applies them.
+         */
+        void commitTransactions(Set<YearMonth> months) {
+            TransactionsChangedEvent event = new TransactionsChangedEvent(userId, months);
+            reportCache.onTransactionsChanged(event);
+            relay.onTransactionsChanged(event);
+        }
+
+    }
+
+}
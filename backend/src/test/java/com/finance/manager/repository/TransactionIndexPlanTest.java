@@ -0,0 +1,213 @@
+package com.finance.manager.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.manager.PostgresContainerTest;
+import com.finance.manager.entity.Transaction;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the plans of the transaction listing queries against the partial indexes from
+ * changeset 008. Each test runs the real {@link TransactionSpecifications} query through
+ * {@code findSlice}, captures the SQL Hibernate generated and explains it with the same values.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.finance.manager.repository.TransactionIndexPlanTest$CapturingInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionIndexPlanTest extends PostgresContainerTest {
+
+    private static final String LISTING_INDEX = "idx_transactions_account_date_created_active";
+    private static final String CATEGORY_INDEX = "idx_transactions_category_date_active";
+    private static final Set<String> INDEX_SCANS = Set.of("Index Scan", "Index Only Scan", "Bitmap Index Scan");
+    private static final Sort LISTING_SORT = Sort.by(
+            Sort.Order.desc("transactionDate"),
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id"));
+    private static final int LIMIT = 21;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UUID userId;
+    private UUID accountId;
+    private UUID categoryId;
+
+    /**
+     * Seeds once for the class, outside the per-test transactions, and is removed in {@link #cleanUp}.
+     */
+    @BeforeAll
+    void seed() {
+        userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, email, password_hash, name) VALUES (?, ?, 'x', 'Plan Test')",
+                userId, userId + "@example.com");
+        jdbcTemplate.update("""
+                INSERT INTO accounts (id, user_id, name, type)
+                SELECT gen_random_uuid(), ?, 'Account ' || i, 'BANK' FROM generate_series(1, 20) i
+                """, userId);
+        jdbcTemplate.update("""
+                INSERT INTO categories (id, user_id, name, type)
+                SELECT gen_random_uuid(), ?, 'Category ' || i, 'EXPENSE' FROM generate_series(1, 40) i
+                """, userId);
+        jdbcTemplate.update("""
+                INSERT INTO transactions (id, account_id, category_id, amount, type, transaction_date, created_at, deleted_at)
+                SELECT gen_random_uuid(),
+                       a.ids[1 + i % 20],
+                       c.ids[1 + (i / 7) % 40],
+                       10.00,
+                       'EXPENSE',
+                       DATE '2020-01-01' + (i % 1800),
+                       TIMESTAMP '2020-01-01' + i * INTERVAL '1 second',
+                       CASE WHEN i % 50 = 0 THEN CURRENT_TIMESTAMP END
+                FROM generate_series(1, 200000) i,
+                     (SELECT array_agg(id ORDER BY name) ids FROM accounts WHERE user_id = ?) a,
+                     (SELECT array_agg(id ORDER BY name) ids FROM categories WHERE user_id = ?) c
+                """, userId, userId);
+        jdbcTemplate.execute("ANALYZE transactions");
+        jdbcTemplate.execute("ANALYZE accounts");
+        jdbcTemplate.execute("ANALYZE categories");
+
+        accountId = jdbcTemplate.queryForObject(
+                "SELECT id FROM accounts WHERE user_id = ? ORDER BY name LIMIT 1", UUID.class, userId);
+        categoryId = jdbcTemplate.queryForObject(
+                "SELECT id FROM categories WHERE user_id = ? ORDER BY name LIMIT 1", UUID.class, userId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM transactions WHERE account_id IN (SELECT id FROM accounts WHERE user_id = ?)",
+                userId);
+        jdbcTemplate.update("DELETE FROM accounts WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM categories WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void accountListingReadsAccountIndexInOrder() throws Exception {
+        List<JsonNode> nodes = explainSlice(
+                TransactionSpecifications.filter(userId, accountId, null, null, null, null),
+                List.of(literal(userId), literal(accountId)));
+
+        assertUsesIndex(nodes, LISTING_INDEX);
+        assertNoSeqScanOnTransactions(nodes);
+        assertThat(nodes).extracting(node -> node.path("Node Type").asText()).doesNotContain("Sort");
+    }
+
+    @Test
+    void categoryDateFilterReadsCategoryIndex() throws Exception {
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        LocalDate end = LocalDate.of(2023, 3, 31);
+        List<JsonNode> nodes = explainSlice(
+                TransactionSpecifications.filter(userId, null, categoryId, null, start, end),
+                List.of(literal(userId), literal(categoryId), literal(start), literal(end)));
+
+        assertUsesIndex(nodes, CATEGORY_INDEX);
+        assertNoSeqScanOnTransactions(nodes);
+    }
+
+    /**
+     * Runs the listing query as the cursor endpoint does and explains the SQL Hibernate sent.
+     * {@code filterValues} are the predicate bindings in specification order; any placeholders
+     * left after them belong to the row limit.
+     */
+    private List<JsonNode> explainSlice(Specification<Transaction> spec, List<String> filterValues) throws Exception {
+        CapturingInspector.STATEMENTS.clear();
+        transactionRepository.findSlice(spec, LISTING_SORT, 0, LIMIT);
+        String sql = CapturingInspector.STATEMENTS.stream()
+                .filter(statement -> statement.contains("transactions"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        assertThat(sql).contains("deleted_at is null");
+
+        String[] parts = sql.split("\\?", -1);
+        int placeholders = parts.length - 1;
+        assertThat(placeholders).isBetween(filterValues.size(), filterValues.size() + 2);
+        List<String> values = new ArrayList<>(filterValues);
+        // Limit handlers bind an offset before the row count when they bind both
+        if (placeholders == filterValues.size() + 2) {
+            values.add("0");
+        }
+        if (placeholders > filterValues.size()) {
+            values.add(String.valueOf(LIMIT));
+        }
+
+        StringBuilder bound = new StringBuilder(parts[0]);
+        for (int i = 0; i < placeholders; i++) {
+            bound.append(values.get(i)).append(parts[i + 1]);
+        }
+        return explain(bound.toString());
+    }
+
+    private String literal(Object value) {
+        return value instanceof LocalDate ? "DATE '" + value + "'" : "'" + value + "'";
+    }
+
+    private List<JsonNode> explain(String sql) throws Exception {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class);
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(objectMapper.readTree(plan).get(0).get("Plan"), nodes);
+        return nodes;
+    }
+
+    private void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        node.path("Plans").forEach(child -> collect(child, nodes));
+    }
+
+    private void assertUsesIndex(List<JsonNode> nodes, String indexName) {
+        assertThat(nodes)
+                .as("plan nodes")
+                .anySatisfy(node -> {
+                    assertThat(INDEX_SCANS).contains(node.path("Node Type").asText());
+                    assertThat(node.path("Index Name").asText()).isEqualTo(indexName);
+                });
+    }
+
+    private void assertNoSeqScanOnTransactions(List<JsonNode> nodes) {
+        assertThat(nodes)
+                .noneSatisfy(node -> {
+                    assertThat(node.path("Node Type").asText()).isEqualTo("Seq Scan");
+                    assertThat(node.path("Relation Name").asText()).isEqualTo("transactions");
+                });
+    }
+
+    /**
+     * Records every statement Hibernate prepares; registered through the session factory property above.
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.finance.manager.service;
+
+import com.finance.manager.PostgresContainerTest;
+import com.finance.manager.dto.transaction.CreateTransactionRequest;
+import com.finance.manager.dto.transaction.TransactionResponse;
+import com.finance.manager.dto.transaction.UpdateTransactionRequest;
+import com.finance.manager.entity.TransactionType;
+import com.finance.manager.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers one account from many threads and checks that no balance update is lost.
+ */
+@SpringBootTest
+class TransactionServiceConcurrencyTest extends PostgresContainerTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 25;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+    private static final UUID SALARY_CATEGORY_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuthenticatedUser principal;
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        UUID userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, email, password_hash, name) VALUES (?, ?, 'x', 'Concurrency Test')",
+                userId, userId + "@example.com");
+        accountId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO accounts (id, user_id, name, type, balance) VALUES (?, ?, 'Shared', 'BANK', ?)",
+                accountId, userId, INITIAL_BALANCE);
+        principal = new AuthenticatedUser(userId, userId + "@example.com", "x", 0L, "Concurrency Test");
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentWritesOnOneAccountLoseNoBalanceChanges() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BigDecimal>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(asUser(() -> {
+                start.await();
+                return runOperations();
+            })));
+        }
+        start.countDown();
+
+        BigDecimal expectedDelta = BigDecimal.ZERO;
+        for (Future<BigDecimal> result : results) {
+            expectedDelta = expectedDelta.add(result.get(2, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+
+        BigDecimal balance = jdbcTemplate.queryForObject(
+                "SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, accountId);
+        BigDecimal ledgerTotal = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(CASE WHEN type = 'INCOME' THEN amount ELSE -amount END), 0)
+                FROM transactions WHERE account_id = ? AND deleted_at IS NULL
+                """, BigDecimal.class, accountId);
+
+        assertThat(balance).isEqualByComparingTo(INITIAL_BALANCE.add(expectedDelta));
+        assertThat(balance).isEqualByComparingTo(INITIAL_BALANCE.add(ledgerTotal));
+    }
+
+    /**
+     * Creates transactions and rewrites or deletes some of them, returning the net balance change applied.
+     */
+    private BigDecimal runOperations() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<TransactionResponse> created = new ArrayList<>();
+        BigDecimal delta = BigDecimal.ZERO;
+
+        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+            TransactionType type = random.nextBoolean() ? TransactionType.INCOME : TransactionType.EXPENSE;
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(1, 100_000), 2);
+
+            int operation = random.nextInt(6);
+            if (!created.isEmpty() && operation == 0) {
+                TransactionResponse existing = created.remove(random.nextInt(created.size()));
+                transactionService.deleteTransaction(existing.getId());
+                delta = delta.subtract(signed(existing.getAmount(), existing.getType()));
+            } else if (!created.isEmpty() && operation <= 2) {
+                TransactionResponse existing = created.remove(random.nextInt(created.size()));
+                TransactionResponse updated = transactionService.updateTransaction(existing.getId(),
+                        UpdateTransactionRequest.builder()
+                                .categoryId(SALARY_CATEGORY_ID)
+                                .amount(amount)
+                                .type(type)
+                                .transactionDate(LocalDate.now().minusDays(random.nextInt(60)))
+                                .build());
+                delta = delta.add(signed(amount, type)).subtract(signed(existing.getAmount(), existing.getType()));
+                created.add(updated);
+            } else {
+                created.add(transactionService.createTransaction(CreateTransactionRequest.builder()
+                        .accountId(accountId)
+                        .categoryId(SALARY_CATEGORY_ID)
+                        .amount(amount)
+                        .type(type)
+                        .transactionDate(LocalDate.now().minusDays(random.nextInt(60)))
+                        .build()));
+                delta = delta.add(signed(amount, type));
+            }
+        }
+        return delta;
+    }
+
+    private <T> Callable<T> asUser(Callable<T> task) {
+        return () -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+            try {
+                return task.call();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+
+    private static BigDecimal signed(BigDecimal amount, TransactionType type) {
+        return type == TransactionType.INCOME ? amount : amount.negate();
+    }
+
+}